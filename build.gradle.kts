@@ -74,6 +74,86 @@ testing {
 
 gradlePlugin.testSourceSets(sourceSets.getByName("functionalTest"))
 
+// build-only tool that writes the license index, kept out of the plugin jar. It only sees the main
+// classes, the main resources are generated by it.
+val licenseIndex by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output.classesDirs
+    runtimeClasspath += sourceSets.main.get().output.classesDirs
+}
+
+configurations.named(licenseIndex.implementationConfigurationName) {
+    extendsFrom(configurations.implementation.get())
+}
+
+configurations.named(licenseIndex.runtimeOnlyConfigurationName) {
+    extendsFrom(configurations.runtimeOnly.get())
+}
+
+// index of the license list bundled with the spdx library, so it isn't parsed at runtime
+val generateLicenseIndex by tasks.registering(JavaExec::class) {
+    description = "Generates the license url index of the bundled spdx license list"
+    val outputDirectory = layout.buildDirectory.dir("generated/licenseIndex")
+    classpath = licenseIndex.runtimeClasspath
+    mainClass.set("org.spdx.sbom.gradle.utils.LicenseIndexWriter")
+    outputs.dir(outputDirectory)
+    argumentProviders.add(
+        CommandLineArgumentProvider { listOf(outputDirectory.get().asFile.absolutePath) },
+    )
+}
+
+sourceSets.main {
+    resources.srcDir(generateLicenseIndex)
+}
+
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations.named(jmh.implementationConfigurationName) {
+    extendsFrom(configurations.implementation.get())
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhImplementation"(gradleApi())
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks, pass -Pjmh.includes=<regex> to select benchmarks"
+    val includes = providers.gradleProperty("jmh.includes").orElse(".*")
+    // json results, to compare runs with each other
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    argumentProviders.add(
+        CommandLineArgumentProvider {
+            listOf(includes.get(), "-rf", "json", "-rff", results.get().asFile.absolutePath)
+        },
+    )
+    doFirst { results.get().asFile.parentFile.mkdirs() }
+}
+
+// the large build performance test takes minutes, so it is left out of functionalTest and check.
+// Sizes and time budgets are set with spdx.perf.* properties, e.g. -Pspdx.perf.subprojects=300
+tasks.named<Test>("functionalTest") {
+    useJUnitPlatform { excludeTags("performance") }
+}
+
+tasks.register<Test>("performanceTest") {
+    group = "verification"
+    description = "Generates the sboms of a large synthetic build within a time budget"
+    val functionalTest = sourceSets.getByName("functionalTest")
+    testClassesDirs = functionalTest.output.classesDirs
+    classpath = functionalTest.runtimeClasspath
+    useJUnitPlatform { includeTags("performance") }
+    systemProperties(providers.gradlePropertiesPrefixedBy("spdx.perf.").get())
+}
+
 tasks.named<Task>("check") {
     dependsOn(tasks.named("functionalTest"))
 }
@@ -18,10 +18,13 @@ package org.spdx;
 import java.io.IOException;
 import java.nio.file.Path;
 import org.hamcrest.MatcherAssert;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.hamcrest.Matchers;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.spdx.test.FunctionalTest;
 import org.spdx.tools.SpdxVerificationException;
 
@@ -30,8 +33,11 @@ public class BuildExtensionTest {
   @TempDir(cleanup = CleanupMode.ON_SUCCESS)
   Path projectDir;
 
-  @Test
-  public void canRunOnPluginProject() throws IOException, SpdxVerificationException {
+  // the extension is set on the target tasks, the batch task takes it from them
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void canRunOnPluginProject(boolean batchTargets)
+      throws IOException, SpdxVerificationException {
     var test =
         FunctionalTest.newTest(projectDir)
             .newKotlinSettings("spdx-functional-test-project")
@@ -67,14 +73,22 @@ public class BuildExtensionTest {
                   implementation("dev.sigstore:sigstore-java:0.3.0")
                 }
                 spdxSbom {
+                  batchTargets.set(%s)
                   targets {
                     create("sbom") {
                     }
                   }
                 }
-                """);
+                """
+                    .formatted(batchTargets));
+
+    var result = test.newGradleRunner().withArguments("spdxSbom", "--stacktrace").build();
 
-    test.newGradleRunner().withArguments("spdxSbom", "--stacktrace").build();
+    if (batchTargets) {
+      // the target task only forwards to the batch task, nothing is extracted for it alone
+      Assertions.assertEquals(TaskOutcome.SKIPPED, result.task(":spdxSbomForSbom").getOutcome());
+      Assertions.assertNull(result.task(":spdxPomIndexForSbom"));
+    }
 
     var sbom = test.verifyBasic(test.getFile("build/spdx/sbom.spdx.json"));
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.test.FunctionalTest;
+import org.spdx.tools.SpdxVerificationException;
+
+public class ConfigurationCacheTest {
+
+  @TempDir(cleanup = CleanupMode.ON_SUCCESS)
+  Path projectDir;
+
+  // pom files, including parents, are resolved while the configuration cache entry is stored
+  @Test
+  public void pomIndexIsStoredInConfigurationCache() throws IOException, SpdxVerificationException {
+    var test =
+        FunctionalTest.newTest(projectDir)
+            .newKotlinSettings("spdx-functional-test-project")
+            .newFile(
+                "build.gradle.kts",
+                """
+                plugins {
+                  id("org.spdx.sbom")
+                  java
+                }
+                version = "1"
+                repositories {
+                  mavenCentral()
+                }
+                dependencies {
+                  implementation("dev.sigstore:sigstore-java:0.3.0")
+                }
+                spdxSbom {
+                  targets {
+                    create("release") {
+                    }
+                  }
+                }
+                """);
+
+    var firstRun =
+        test.newGradleRunner()
+            .withArguments("spdxSbom", "--configuration-cache", "--stacktrace")
+            .build();
+    MatcherAssert.assertThat(
+        firstRun.getOutput(), Matchers.containsString("Configuration cache entry stored"));
+
+    Files.delete(test.getFile("build/spdx/release.spdx.json"));
+    var secondRun =
+        test.newGradleRunner()
+            .withArguments("spdxSbom", "--configuration-cache", "--stacktrace")
+            .build();
+    MatcherAssert.assertThat(
+        secondRun.getOutput(), Matchers.containsString("Reusing configuration cache"));
+    var sbom = test.verifyBasic(test.getFile("build/spdx/release.spdx.json"));
+    MatcherAssert.assertThat(sbom, Matchers.containsString("\"name\" : \"sigstore-java\""));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.test.FunctionalTest;
+import org.spdx.tools.SpdxVerificationException;
+
+public class IncrementalTest {
+
+  @TempDir(cleanup = CleanupMode.ON_SUCCESS)
+  Path projectDir;
+
+  private static String buildFile(String sigstoreVersion) {
+    return """
+        plugins {
+          id('org.spdx.sbom')
+          id('java')
+        }
+        repositories {
+          mavenCentral()
+        }
+        version = '1.2.3'
+        dependencies {
+          implementation 'dev.sigstore:sigstore-java:%s'
+        }
+        spdxSbom {
+          targets {
+            release {
+              incremental = true
+              document {
+                created = java.time.Instant.ofEpochSecond(0)
+              }
+            }
+          }
+        }
+        """
+        .formatted(sigstoreVersion);
+  }
+
+  @Test
+  void reusesPackagesOfUnchangedComponents() throws IOException, SpdxVerificationException {
+    var test =
+        FunctionalTest.newTest(projectDir)
+            .newGroovySettings("spdx-functional-test-project")
+            .newFile("build.gradle", buildFile("0.2.0"));
+    test.newGradleRunner().withArguments("spdxSbomForRelease", "--stacktrace").build();
+
+    test.newFile("build.gradle", buildFile("0.3.0"));
+    var result =
+        test.newGradleRunner()
+            .withArguments("spdxSbomForRelease", "--info", "--stacktrace")
+            .build();
+
+    Path outputFile = test.getFile("build/spdx/release.spdx.json");
+    String sbom = test.verifyBasic(outputFile);
+    MatcherAssert.assertThat(sbom, Matchers.containsString("sigstore-java@0.3.0"));
+    MatcherAssert.assertThat(sbom, Matchers.not(Matchers.containsString("sigstore-java@0.2.0")));
+    // dependencies shared by both versions are reused
+    MatcherAssert.assertThat(
+        result.getOutput(),
+        Matchers.matchesRegex("(?s).*> componentsReused' = [1-9][0-9]*\\R.*"));
+
+    // and the document is the same as one generated from scratch
+    Files.delete(test.getFile("build/intermediates/spdx/release/packages.bin"));
+    test.newGradleRunner()
+        .withArguments("spdxSbomForRelease", "--rerun-tasks", "--stacktrace")
+        .build();
+    Assertions.assertEquals(sbom, Files.readString(outputFile));
+  }
+}
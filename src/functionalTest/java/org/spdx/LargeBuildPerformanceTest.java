@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.test.FunctionalTest;
+import org.spdx.test.LargeBuildFixture;
+
+/**
+ * Generates the sboms of a large synthetic build and fails when that takes longer than a time
+ * budget. Only run by the {@code performanceTest} task, sizes and budgets are set with {@code
+ * spdx.perf.*} gradle properties, for example {@code -Pspdx.perf.subprojects=300
+ * -Pspdx.perf.budgetSeconds=600}.
+ */
+@Tag("performance")
+public class LargeBuildPerformanceTest {
+
+  @TempDir(cleanup = CleanupMode.ON_SUCCESS)
+  Path projectDir;
+
+  @Test
+  public void largeBuildWithinBudget() throws IOException {
+    LargeBuildFixture fixture = LargeBuildFixture.fromSystemProperties();
+    FunctionalTest test = fixture.create(projectDir);
+
+    Duration generate =
+        timed(test, Duration.ofSeconds(Integer.getInteger("spdx.perf.budgetSeconds", 300)));
+    System.out.println("generating the sboms of the large build took " + generate);
+
+    for (int i = 0; i < fixture.getSubprojects(); i++) {
+      Path sbom = test.getFile("project-" + i + "/build/spdx/release.spdx.json");
+      assertTrue(Files.isRegularFile(sbom), sbom + " was not generated");
+      Path metrics = test.getFile("project-" + i + "/build/reports/spdx/release.metrics.json");
+      assertTrue(Files.readString(metrics).contains("\"packages\""), metrics + " has no counters");
+    }
+
+    // nothing changed, so this is mostly configuration and resolving the pom index inputs
+    Duration upToDate =
+        timed(
+            test, Duration.ofSeconds(Integer.getInteger("spdx.perf.upToDateBudgetSeconds", 60)));
+    System.out.println("the up to date build of the large build took " + upToDate);
+  }
+
+  private static Duration timed(FunctionalTest test, Duration budget) {
+    long start = System.nanoTime();
+    BuildResult result =
+        test.newGradleRunner().withArguments("spdxSbom", "--offline", "--stacktrace").build();
+    Duration took = Duration.ofNanos(System.nanoTime() - start);
+
+    assertTrue(
+        result.getTasks().stream()
+            .noneMatch(task -> task.getOutcome() == TaskOutcome.FAILED),
+        "a task failed");
+    assertTrue(
+        took.compareTo(budget) <= 0, "the build took " + took + ", the budget is " + budget);
+    return took;
+  }
+}
@@ -16,6 +16,7 @@
 package org.spdx;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -99,6 +100,9 @@ public class SmokeTest {
 
     Path outputFile = test.getFile("build/spdx/release.spdx.json");
     test.verifyBasic(outputFile);
+    MatcherAssert.assertThat(
+        Files.readString(test.getFile("build/reports/spdx/release.metrics.json")),
+        Matchers.containsString("\"packages\""));
 
     MatcherAssert.assertThat(result.getOutput(), Matchers.containsString(versionWarning));
   }
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a large multi-project build that only depends on a local file based maven repository,
+ * so it runs offline. Libraries have transitive dependencies and inherit their licenses and
+ * developers through deep parent pom chains, subprojects depend on libraries and on each other.
+ *
+ * <p>Sizes are read from {@code spdx.perf.*} system properties, which the build passes on from
+ * gradle properties of the same name, for example {@code -Pspdx.perf.subprojects=300}.
+ */
+public final class LargeBuildFixture {
+  private static final String GROUP_PREFIX = "org.fixture.group";
+  private static final int GROUPS = 20;
+  private static final int PARENT_CHAINS = 10;
+  private static final int TRANSITIVE_DEPENDENCIES = 2;
+
+  private final int artifacts;
+  private final int parentDepth;
+  private final int subprojects;
+  private final int dependenciesPerProject;
+
+  private LargeBuildFixture(
+      int artifacts, int parentDepth, int subprojects, int dependenciesPerProject) {
+    this.artifacts = artifacts;
+    this.parentDepth = parentDepth;
+    this.subprojects = subprojects;
+    this.dependenciesPerProject = dependenciesPerProject;
+  }
+
+  /** A fixture sized by system properties, with defaults that run in a few minutes. */
+  public static LargeBuildFixture fromSystemProperties() {
+    return new LargeBuildFixture(
+        Integer.getInteger("spdx.perf.artifacts", 2000),
+        Integer.getInteger("spdx.perf.parentDepth", 10),
+        Integer.getInteger("spdx.perf.subprojects", 100),
+        Integer.getInteger("spdx.perf.dependenciesPerProject", 30));
+  }
+
+  public int getSubprojects() {
+    return subprojects;
+  }
+
+  /** Writes the repository and the build to {@code projectDir}. */
+  public FunctionalTest create(Path projectDir) throws IOException {
+    writeRepository(projectDir.resolve("maven-repository"));
+
+    List<String> projectNames = new ArrayList<>();
+    for (int i = 0; i < subprojects; i++) {
+      projectNames.add(projectName(i));
+    }
+    FunctionalTest test =
+        FunctionalTest.newTest(projectDir)
+            .newGroovySettings("spdx-large-build", projectNames.toArray(new String[0]))
+            .newFile("gradle.properties", "org.gradle.jvmargs=-Xmx2g\norg.gradle.parallel=true\n")
+            .newFile("build.gradle", "");
+    // repositories are declared in settings, so they only exist once
+    Files.writeString(
+        projectDir.resolve("settings.gradle"),
+        """
+        dependencyResolutionManagement {
+          repositories {
+            maven {
+              name = 'fixture'
+              url = uri('maven-repository')
+            }
+          }
+        }
+        """,
+        StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    for (int i = 0; i < subprojects; i++) {
+      test.newFile(projectName(i) + "/build.gradle", subprojectBuild(i));
+    }
+    return test;
+  }
+
+  private String subprojectBuild(int project) {
+    StringBuilder dependencies = new StringBuilder();
+    for (int d = 0; d < dependenciesPerProject; d++) {
+      int library = (project * 37 + d * 97) % artifacts;
+      dependencies.append("  implementation '").append(coordinates(library)).append("'\n");
+    }
+    // a few project dependencies, so projects end up in each other's sboms
+    if (project % 5 != 0) {
+      dependencies
+          .append("  implementation project(':")
+          .append(projectName(project - 1))
+          .append("')\n");
+    }
+    return """
+        plugins {
+          id('java')
+          id('org.spdx.sbom')
+        }
+        group = 'org.fixture.projects'
+        version = '1.0'
+        dependencies {
+        %s}
+        spdxSbom {
+          targets {
+            release {
+            }
+          }
+        }
+        """
+        .formatted(dependencies);
+  }
+
+  private void writeRepository(Path repository) throws IOException {
+    for (int chain = 0; chain < PARENT_CHAINS; chain++) {
+      for (int level = 0; level < parentDepth; level++) {
+        writePom(repository, GROUP_PREFIX + "0", parentName(chain, level), parentPom(chain, level));
+      }
+    }
+    for (int i = 0; i < artifacts; i++) {
+      String group = group(i);
+      String name = "lib-" + i;
+      writePom(repository, group, name, libraryPom(i));
+      Path jar = directory(repository, group, name).resolve(name + "-1.0.jar");
+      // the content only needs to be unique, nothing reads the jars as jars
+      String content = (group + ":" + name + ":1.0\n").repeat(1 + i % 64);
+      Files.write(jar, content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static String parentPom(int chain, int level) {
+    StringBuilder pom = new StringBuilder();
+    pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n");
+    if (level > 0) {
+      pom.append("  <parent>\n")
+          .append("    <groupId>")
+          .append(GROUP_PREFIX)
+          .append("0</groupId>\n")
+          .append("    <artifactId>")
+          .append(parentName(chain, level - 1))
+          .append("</artifactId>\n")
+          .append("    <version>1.0</version>\n")
+          .append("  </parent>\n");
+    } else {
+      pom.append("  <groupId>").append(GROUP_PREFIX).append("0</groupId>\n");
+    }
+    pom.append("  <artifactId>")
+        .append(parentName(chain, level))
+        .append("</artifactId>\n")
+        .append("  <version>1.0</version>\n")
+        .append("  <packaging>pom</packaging>\n")
+        .append("  <properties><fixture.level")
+        .append(level)
+        .append(">")
+        .append(level)
+        .append("</fixture.level")
+        .append(level)
+        .append("></properties>\n");
+    if (level == 0) {
+      pom.append("  <url>https://fixture.example.org/chain-")
+          .append(chain)
+          .append("</url>\n")
+          .append("  <licenses>\n")
+          .append("    <license>\n")
+          .append("      <name>Apache-2.0</name>\n")
+          .append("      <url>https://www.apache.org/licenses/LICENSE-2.0.txt</url>\n")
+          .append("    </license>\n");
+      if (chain % 3 == 0) {
+        pom.append("    <license>\n")
+            .append("      <name>Fixture License ")
+            .append(chain)
+            .append("</name>\n")
+            .append("      <url>https://fixture.example.org/license-")
+            .append(chain)
+            .append("</url>\n")
+            .append("    </license>\n");
+      }
+      pom.append("  </licenses>\n");
+    }
+    if (level == 1) {
+      pom.append("  <developers>\n")
+          .append("    <developer><name>Developer ")
+          .append(chain)
+          .append("</name><organization>Fixture</organization></developer>\n")
+          .append("  </developers>\n");
+    }
+    return pom.append("</project>\n").toString();
+  }
+
+  private String libraryPom(int i) {
+    StringBuilder pom = new StringBuilder();
+    pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+        .append("  <modelVersion>4.0.0</modelVersion>\n")
+        .append("  <parent>\n")
+        .append("    <groupId>")
+        .append(GROUP_PREFIX)
+        .append("0</groupId>\n")
+        .append("    <artifactId>")
+        .append(parentName(i % PARENT_CHAINS, parentDepth - 1))
+        .append("</artifactId>\n")
+        .append("    <version>1.0</version>\n")
+        .append("  </parent>\n")
+        .append("  <groupId>")
+        .append(group(i))
+        .append("</groupId>\n")
+        .append("  <artifactId>lib-")
+        .append(i)
+        .append("</artifactId>\n")
+        .append("  <dependencies>\n");
+    // only depend on libraries with higher numbers, so there are no cycles
+    for (int d = 1; d <= TRANSITIVE_DEPENDENCIES; d++) {
+      int dependency = i + d + (i * 7 * d) % 50;
+      if (dependency < artifacts) {
+        pom.append("    <dependency>\n")
+            .append("      <groupId>")
+            .append(group(dependency))
+            .append("</groupId>\n")
+            .append("      <artifactId>lib-")
+            .append(dependency)
+            .append("</artifactId>\n")
+            .append("      <version>1.0</version>\n")
+            .append("    </dependency>\n");
+      }
+    }
+    return pom.append("  </dependencies>\n").append("</project>\n").toString();
+  }
+
+  private static void writePom(Path repository, String group, String name, String pom)
+      throws IOException {
+    Files.writeString(directory(repository, group, name).resolve(name + "-1.0.pom"), pom);
+  }
+
+  private static Path directory(Path repository, String group, String name) throws IOException {
+    return Files.createDirectories(
+        repository.resolve(group.replace('.', '/')).resolve(name).resolve("1.0"));
+  }
+
+  private static String group(int library) {
+    return GROUP_PREFIX + (library % GROUPS);
+  }
+
+  private static String coordinates(int library) {
+    return group(library) + ":lib-" + library + ":1.0";
+  }
+
+  private static String parentName(int chain, int level) {
+    return "parent-" + chain + "-" + level;
+  }
+
+  private static String projectName(int project) {
+    return "project-" + project;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+/** Compares reading a jar once per digest with feeding all digests from a single read. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChecksumCalculatorBenchmark {
+
+  @Param({"1", "16", "64"})
+  public int fileSizeMb;
+
+  private File jar;
+  private ChecksumCalculator calculator;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    byte[] content = new byte[fileSizeMb * 1024 * 1024];
+    new Random(fileSizeMb).nextBytes(content);
+    jar = File.createTempFile("checksum-benchmark", ".jar");
+    Files.write(jar.toPath(), content);
+    calculator = ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(jar.toPath());
+  }
+
+  @Benchmark
+  @SuppressWarnings("deprecation")
+  public void readPerDigest(Blackhole blackhole) throws IOException {
+    blackhole.consume(com.google.common.io.Files.asByteSource(jar).hash(Hashing.sha1()));
+    blackhole.consume(com.google.common.io.Files.asByteSource(jar).hash(Hashing.sha256()));
+  }
+
+  @Benchmark
+  public FileChecksums singlePass() throws IOException {
+    return calculator.checksums(jar);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.gradle.api.logging.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds effective poms for a synthetic graph of 1,000 poms, each with a two level parent chain.
+ * One in ten poms uses an interpolated url, so the streaming extractor falls back for those.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EffectivePomBuilderBenchmark {
+  private static final int POMS = 1000;
+  private static final int PARENTS = 50;
+  private static final int GRANDPARENTS = 5;
+
+  @Param({"1", "4", "8"})
+  public int pomParallelism;
+
+  @Param({"MODEL_BUILDER", "STREAMING"})
+  public PomExtractionMode extractionMode;
+
+  private Path dir;
+  private EffectivePomBuilder effectivePomBuilder;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("pom-benchmark");
+    var resolvedPomFiles = ImmutableResolvedPomFiles.builder();
+    for (int i = 0; i < GRANDPARENTS; i++) {
+      resolvedPomFiles.putPomFiles(
+          "org.bench:grandparent-" + i + ":1.0", write("grandparent-" + i, grandparentPom(i)));
+    }
+    for (int i = 0; i < PARENTS; i++) {
+      resolvedPomFiles.putPomFiles(
+          "org.bench:parent-" + i + ":1.0", write("parent-" + i, parentPom(i)));
+    }
+    for (int i = 0; i < POMS; i++) {
+      String gav = "org.bench:lib-" + i + ":1.0";
+      resolvedPomFiles.putComponents(gav, gav);
+      resolvedPomFiles.putPomFiles(gav, write("lib-" + i, libPom(i)));
+    }
+
+    effectivePomBuilder =
+        new EffectivePomBuilder(
+            resolvedPomFiles.build(),
+            dir.resolve("stubs"),
+            false,
+            null,
+            extractionMode,
+            pomParallelism,
+            Logging.getLogger(EffectivePomBuilder.class));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(dir)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Map<String, PomInfo> effectivePoms() {
+    return effectivePomBuilder.effectivePoms();
+  }
+
+  private File write(String name, String content) throws IOException {
+    return Files.writeString(dir.resolve(name + ".pom"), content).toFile();
+  }
+
+  private static String grandparentPom(int i) {
+    return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <modelVersion>4.0.0</modelVersion>\n"
+        + "  <groupId>org.bench</groupId>\n"
+        + "  <artifactId>grandparent-"
+        + i
+        + "</artifactId>\n"
+        + "  <version>1.0</version>\n"
+        + "  <packaging>pom</packaging>\n"
+        + "  <url>https://bench.example.org</url>\n"
+        + "  <organization><name>Bench</name><url>https://bench.example.org</url></organization>\n"
+        + "  <licenses>\n"
+        + "    <license>\n"
+        + "      <name>Apache-2.0</name>\n"
+        + "      <url>https://www.apache.org/licenses/LICENSE-2.0.txt</url>\n"
+        + "    </license>\n"
+        + "  </licenses>\n"
+        + "  <properties><bench.version>1.0</bench.version></properties>\n"
+        + "  <dependencyManagement><dependencies>\n"
+        + "    <dependency>\n"
+        + "      <groupId>org.bench</groupId>\n"
+        + "      <artifactId>managed</artifactId>\n"
+        + "      <version>${bench.version}</version>\n"
+        + "    </dependency>\n"
+        + "  </dependencies></dependencyManagement>\n"
+        + "</project>\n";
+  }
+
+  private static String parentPom(int i) {
+    return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <modelVersion>4.0.0</modelVersion>\n"
+        + "  <parent>\n"
+        + "    <groupId>org.bench</groupId>\n"
+        + "    <artifactId>grandparent-"
+        + (i % GRANDPARENTS)
+        + "</artifactId>\n"
+        + "    <version>1.0</version>\n"
+        + "  </parent>\n"
+        + "  <artifactId>parent-"
+        + i
+        + "</artifactId>\n"
+        + "  <packaging>pom</packaging>\n"
+        + "  <developers>\n"
+        + "    <developer><name>Dev "
+        + i
+        + "</name><email>dev"
+        + i
+        + "@example.org</email></developer>\n"
+        + "  </developers>\n"
+        + "</project>\n";
+  }
+
+  private static String libPom(int i) {
+    return "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+        + "  <modelVersion>4.0.0</modelVersion>\n"
+        + "  <parent>\n"
+        + "    <groupId>org.bench</groupId>\n"
+        + "    <artifactId>parent-"
+        + (i % PARENTS)
+        + "</artifactId>\n"
+        + "    <version>1.0</version>\n"
+        + "  </parent>\n"
+        + "  <artifactId>lib-"
+        + i
+        + "</artifactId>\n"
+        + (i % 10 == 0
+            ? "  <url>https://bench.example.org/${project.artifactId}</url>\n"
+            : "  <url>https://bench.example.org/lib-" + i + "</url>\n")
+        + "  <dependencies>\n"
+        + "    <dependency>\n"
+        + "      <groupId>org.bench</groupId>\n"
+        + "      <artifactId>managed</artifactId>\n"
+        + "    </dependency>\n"
+        + "  </dependencies>\n"
+        + "</project>\n";
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.uri;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.internal.artifacts.DefaultModuleVersionIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds the purl and download location of a package, which happens for every artifact of an
+ * sbom. Maven central purls have no repository qualifier, other repositories add one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class URIsBenchmark {
+  private final URI central = URI.create("https://repo.maven.org/maven2/");
+  private final URI custom = URI.create("https://maven.example.com/releases");
+  private final ModuleVersionIdentifier moduleId =
+      DefaultModuleVersionIdentifier.newId("com.google.guava", "guava", "33.0.0-jre");
+
+  @Benchmark
+  public String toPurlCentral() {
+    return URIs.toPurl(central, moduleId, null, "jar");
+  }
+
+  @Benchmark
+  public String toPurlWithRepositoryAndClassifier() {
+    return URIs.toPurl(custom, moduleId, "sources", "jar");
+  }
+
+  @Benchmark
+  public URI toDownloadLocation() {
+    return URIs.toDownloadLocation(custom, moduleId, "guava-33.0.0-jre.jar");
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Walks synthetic graphs of 50,000 components: a single chain, which a recursive walk can't handle
+ * with default stack sizes, and a layered graph where every component depends on up to four
+ * components of the next layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ComponentGraphWalkerBenchmark {
+  private static final int COMPONENTS = 50_000;
+  private static final int LAYER_SIZE = 500;
+  private static final int DEPENDENCIES = 4;
+
+  @Param({"CHAIN", "LAYERED"})
+  public String shape;
+
+  private ResolvedComponentResult root;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Component> components = new ArrayList<>();
+    for (int i = 0; i < COMPONENTS; i++) {
+      components.add(new Component("component-" + i));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < COMPONENTS; i++) {
+      if (shape.equals("CHAIN")) {
+        if (i + 1 < COMPONENTS) {
+          components.get(i).dependOn(components.get(i + 1));
+        }
+      } else {
+        int nextLayer = (i / LAYER_SIZE + 1) * LAYER_SIZE;
+        for (int d = 0; d < DEPENDENCIES && nextLayer < COMPONENTS; d++) {
+          components.get(i).dependOn(components.get(nextLayer + random.nextInt(LAYER_SIZE)));
+        }
+      }
+    }
+    Component rootComponent = new Component("root");
+    int rootDependencies = shape.equals("CHAIN") ? 1 : LAYER_SIZE;
+    for (int i = 0; i < rootDependencies; i++) {
+      rootComponent.dependOn(components.get(i));
+    }
+    root = rootComponent.result;
+  }
+
+  @Benchmark
+  public int walk() {
+    int[] visits = new int[1];
+    ComponentGraphWalker.<Void, RuntimeException>walk(
+        List.of(root),
+        null,
+        (component, unused) -> {
+          visits[0]++;
+          return null;
+        });
+    return visits[0];
+  }
+
+  /** Only id and dependencies are implemented, which is all the walker uses. */
+  private static final class Component {
+    private final Set<DependencyResult> dependencies = new LinkedHashSet<>();
+    private final ResolvedComponentResult result;
+
+    Component(String name) {
+      ComponentIdentifier id = proxy(ComponentIdentifier.class, "getDisplayName", name);
+      result =
+          (ResolvedComponentResult)
+              Proxy.newProxyInstance(
+                  Component.class.getClassLoader(),
+                  new Class<?>[] {ResolvedComponentResult.class},
+                  (proxy, method, args) -> {
+                    switch (method.getName()) {
+                      case "getId":
+                        return id;
+                      case "getDependencies":
+                        return dependencies;
+                      default:
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                  });
+    }
+
+    void dependOn(Component dependency) {
+      dependencies.add(proxy(ResolvedDependencyResult.class, "getSelected", dependency.result));
+    }
+
+    private static <T> T proxy(Class<T> type, String methodName, Object value) {
+      return type.cast(
+          Proxy.newProxyInstance(
+              Component.class.getClassLoader(),
+              new Class<?>[] {type},
+              (proxy, method, args) -> {
+                if (method.getName().equals(methodName)) {
+                  return value;
+                }
+                switch (method.getName()) {
+                  case "hashCode":
+                    return System.identityHashCode(proxy);
+                  case "equals":
+                    return proxy == args[0];
+                  default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+              }));
+    }
+  }
+}
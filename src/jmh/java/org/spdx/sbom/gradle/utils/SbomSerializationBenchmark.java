@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.jacksonstore.MultiFormatStore;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.ReferenceType;
+import org.spdx.library.model.v2.SpdxConstantsCompatV2;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.SpdxModelFactoryCompatV2;
+import org.spdx.library.model.v2.SpdxPackage;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.ReferenceCategory;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Serializes a synthetic document of 2,000 packages in every output format. The number of bytes
+ * written is printed at the end of each trial. Streamed documents are written while they are built,
+ * see {@link SpdxDocumentBuilderBenchmark#addStreaming}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SbomSerializationBenchmark {
+  private static final int PACKAGES = 2000;
+
+  @Param({"JSON_PRETTY", "JSON", "JSON_GZIP", "YAML", "XML"})
+  public SbomFormat format;
+
+  private MultiFormatStore store;
+  private SpdxDocument doc;
+  private long bytesWritten;
+
+  @Setup(Level.Trial)
+  public void setUp() throws InvalidSPDXAnalysisException {
+    SpdxModelFactory.init();
+    store = new MultiFormatStore(new InMemSpdxStore(), format.getStoreFormat());
+    doc =
+        SpdxModelFactoryCompatV2.createSpdxDocumentV2(
+            store, "https://example.com/UUID", new ModelCopyManager());
+    doc.setName("benchmark");
+    doc.setCreationInfo(
+        doc.createCreationInfo(List.of("Tool: spdx-gradle-plugin"), "2024-01-01T00:00:00Z"));
+
+    SpdxPackage root = newPackage("root", 0);
+    doc.setDocumentDescribes(List.of(root));
+    for (int i = 1; i <= PACKAGES; i++) {
+      SpdxPackage pkg = newPackage("org.bench:lib-" + i, i);
+      root.addRelationship(doc.createRelationship(pkg, RelationshipType.DEPENDS_ON, null));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.out.println();
+    System.out.println(format + ": " + bytesWritten + " bytes");
+  }
+
+  @Benchmark
+  public long serialize() throws Exception {
+    CountingOutputStream counter = new CountingOutputStream();
+    try (OutputStream out = format.wrap(counter)) {
+      store.serialize(out, doc);
+    }
+    bytesWritten = counter.count;
+    return bytesWritten;
+  }
+
+  private SpdxPackage newPackage(String name, int i) throws InvalidSPDXAnalysisException {
+    String sha = String.format("%040x", i);
+    return doc.createPackage(
+            store.getNextId(IdType.SpdxId),
+            name,
+            new SpdxNoAssertionLicense(),
+            "NOASSERTION",
+            new SpdxNoAssertionLicense())
+        .setFilesAnalyzed(false)
+        .setSupplier("Organization: Bench")
+        .setVersionInfo("1.0")
+        .setDownloadLocation("https://repo.example.com/" + name + "-1.0.jar")
+        .setChecksums(
+            List.of(
+                doc.createChecksum(ChecksumAlgorithm.SHA1, sha),
+                doc.createChecksum(ChecksumAlgorithm.SHA256, sha + sha.substring(0, 24))))
+        .setExternalRefs(
+            List.of(
+                doc.createExternalRef(
+                    ReferenceCategory.PACKAGE_MANAGER,
+                    new ReferenceType(
+                        SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "purl"),
+                    "pkg:maven/" + name.replace(':', '/') + "@1.0",
+                    null)))
+        .build();
+  }
+
+  /** Discards everything written, only counting the bytes. */
+  private static final class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+
+    @Override
+    public void close() throws IOException {}
+  }
+}
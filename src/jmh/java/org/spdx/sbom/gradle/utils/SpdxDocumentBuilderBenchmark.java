@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.internal.artifacts.DefaultModuleVersionIdentifier;
+import org.gradle.api.internal.artifacts.ivyservice.resolveengine.result.ComponentSelectionReasons;
+import org.gradle.api.internal.artifacts.result.DefaultResolvedComponentResult;
+import org.gradle.api.internal.artifacts.result.DefaultResolvedDependencyResult;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.component.external.model.DefaultModuleComponentIdentifier;
+import org.gradle.internal.component.external.model.DefaultModuleComponentSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.jacksonstore.MultiFormatStore;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.sbom.gradle.checksums.ChecksumCalculator;
+import org.spdx.sbom.gradle.checksums.FileChecksums;
+import org.spdx.sbom.gradle.checksums.ImmutableFileChecksums;
+import org.spdx.sbom.gradle.maven.ImmutableDeveloperInfo;
+import org.spdx.sbom.gradle.maven.ImmutableLicenseInfo;
+import org.spdx.sbom.gradle.maven.ImmutablePomInfo;
+import org.spdx.sbom.gradle.maven.PomInfo;
+import org.spdx.sbom.gradle.project.DocumentInfo;
+import org.spdx.sbom.gradle.project.ImmutableDocumentInfo;
+import org.spdx.sbom.gradle.project.ImmutableProjectInfo;
+import org.spdx.sbom.gradle.project.ImmutableScmInfo;
+import org.spdx.sbom.gradle.project.ImmutableUberPackageInfo;
+import org.spdx.sbom.gradle.project.ProjectInfo;
+import org.spdx.sbom.gradle.project.ScmInfo;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Adds synthetic dependency graphs of 1,000 to 50,000 maven components to a new document, where
+ * every component depends on up to four components of the next layer and one in ten components
+ * has a sources jar next to its jar. Checksums are computed up front so only document building is
+ * measured, {@link #addAndSerialize} also verifies and writes the document like a sbom task does
+ * and {@link #addStreaming} writes each package while building, like a streamed sbom task does.
+ *
+ * <p>Components are Gradle's own resolution result classes, since the document builder reads the
+ * repository of a component from them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SpdxDocumentBuilderBenchmark {
+  private static final int LAYER_SIZE = 500;
+  private static final int DEPENDENCIES = 4;
+  private static final int POMS = 200;
+  private static final String REPOSITORY = "bench";
+
+  @Param({"1000", "10000", "50000"})
+  public int components;
+
+  private final ProjectInfo project =
+      ImmutableProjectInfo.builder()
+          .name("bench")
+          .version("1.0")
+          .projectDirectory(new File("bench"))
+          .path(":bench")
+          .build();
+  private final DocumentInfo documentInfo =
+      ImmutableDocumentInfo.builder()
+          .namespace("https://example.com/UUID")
+          .name("benchmark")
+          .uberPackageInfo(
+              ImmutableUberPackageInfo.builder()
+                  .name("bench")
+                  .version("1.0")
+                  .supplier("Organization: Bench")
+                  .build())
+          .build();
+  private final ScmInfo scmInfo =
+      ImmutableScmInfo.builder()
+          .tool("git")
+          .uri("https://example.com/bench.git")
+          .revision("0000000")
+          .build();
+
+  private final Map<ComponentArtifactIdentifier, File> artifacts = new HashMap<>();
+  private final Map<File, FileChecksums> checksums = new HashMap<>();
+  private final Map<String, PomInfo> poms = new HashMap<>();
+  private final Map<String, URI> repositories =
+      Map.of(REPOSITORY, URI.create("https://repo.example.com/maven2"));
+  private SpdxKnownLicenses knownLicenses;
+  private ComponentGraph graph;
+
+  private MultiFormatStore store;
+  private SpdxDocumentBuilder builder;
+
+  @Setup(Level.Trial)
+  public void setUpGraph() throws IOException {
+    SpdxModelFactory.init();
+    knownLicenses = SpdxKnownLicenses.knownLicenses(null);
+
+    // many components share a pom in real builds, like the modules of a library
+    List<PomInfo> pomInfos = new ArrayList<>();
+    for (int i = 0; i < POMS; i++) {
+      var pom =
+          ImmutablePomInfo.builder()
+              .homepage("https://bench.example.org/" + i)
+              .addDevelopers(ImmutableDeveloperInfo.builder().name("Dev " + i).build())
+              .addLicenses(
+                  ImmutableLicenseInfo.builder()
+                      .name("Apache-2.0")
+                      .url("https://www.apache.org/licenses/LICENSE-2.0.txt")
+                      .build());
+      if (i % 5 == 0) {
+        pom.addLicenses(
+            ImmutableLicenseInfo.builder()
+                .name("MIT")
+                .url("https://opensource.org/licenses/MIT")
+                .build());
+      }
+      if (i % 20 == 0) {
+        pom.addLicenses(
+            ImmutableLicenseInfo.builder()
+                .name("Bench License " + i)
+                .url("https://bench.example.org/license-" + i)
+                .build());
+      }
+      pomInfos.add(pom.build());
+    }
+
+    List<DefaultResolvedComponentResult> results = new ArrayList<>();
+    for (int i = 0; i < components; i++) {
+      ModuleVersionIdentifier moduleId =
+          DefaultModuleVersionIdentifier.newId("org.bench.group" + (i % 50), "lib-" + i, "1.0");
+      ComponentIdentifier id = DefaultModuleComponentIdentifier.newId(moduleId);
+      results.add(
+          new DefaultResolvedComponentResult(
+              moduleId,
+              ComponentSelectionReasons.requested(),
+              id,
+              ImmutableMap.of(),
+              ImmutableList.of(),
+              REPOSITORY));
+      poms.put(id.getDisplayName(), pomInfos.get(i % POMS));
+      addArtifact(id, "lib-" + i + "-1.0.jar", i);
+      if (i % 10 == 0) {
+        addArtifact(id, "lib-" + i + "-1.0-sources.jar", i);
+      }
+    }
+
+    Random random = new Random(42);
+    for (int i = 0; i < components; i++) {
+      ImmutableSet.Builder<DependencyResult> dependencies = ImmutableSet.builder();
+      int nextLayer = (i / LAYER_SIZE + 1) * LAYER_SIZE;
+      for (int d = 0; d < DEPENDENCIES && nextLayer < components; d++) {
+        DefaultResolvedComponentResult selected =
+            results.get(nextLayer + random.nextInt(Math.min(LAYER_SIZE, components - nextLayer)));
+        dependencies.add(
+            new DefaultResolvedDependencyResult(
+                DefaultModuleComponentSelector.newSelector(
+                    selected.getModuleVersion().getModule(),
+                    selected.getModuleVersion().getVersion()),
+                false,
+                selected,
+                null,
+                results.get(i)));
+      }
+      results.get(i).addDependencies(dependencies.build());
+    }
+    graph = ComponentGraph.of(results.subList(0, Math.min(LAYER_SIZE, components)));
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpDocument() throws InvalidSPDXAnalysisException {
+    store = new MultiFormatStore(new InMemSpdxStore(), SbomFormat.JSON.getStoreFormat());
+    builder =
+        new SpdxDocumentBuilder(
+            project,
+            Map.of(project.getPath(), project),
+            Logging.getLogger(SpdxDocumentBuilder.class),
+            store,
+            artifacts,
+            repositories,
+            poms,
+            null,
+            documentInfo,
+            scmInfo,
+            () -> knownLicenses,
+            new LicenseExpressionCache(),
+            ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256),
+            1,
+            false);
+    builder.useChecksums(checksums);
+  }
+
+  @Benchmark
+  public Object add() throws Exception {
+    builder.add(graph);
+    return builder.getSpdxDocument();
+  }
+
+  @Benchmark
+  public long addAndSerialize() throws Exception {
+    builder.add(graph);
+    int errors = builder.getStructuralErrors().size();
+    CountingOutputStream counter = new CountingOutputStream();
+    try (OutputStream out = SbomFormat.JSON.wrap(counter)) {
+      store.serialize(out, builder.getSpdxDocument());
+    }
+    return counter.count + errors;
+  }
+
+  @Benchmark
+  public long addStreaming() throws Exception {
+    CountingOutputStream counter = new CountingOutputStream();
+    try (OutputStream out = SbomFormat.JSON.wrap(counter)) {
+      builder.streamTo(out, false);
+      builder.add(graph);
+    }
+    return counter.count + builder.getStructuralErrors().size();
+  }
+
+  private void addArtifact(ComponentIdentifier component, String fileName, int i) {
+    File file = new File("bench-repository", fileName);
+    ComponentArtifactIdentifier artifactId =
+        (ComponentArtifactIdentifier)
+            Proxy.newProxyInstance(
+                SpdxDocumentBuilderBenchmark.class.getClassLoader(),
+                new Class<?>[] {ComponentArtifactIdentifier.class},
+                (proxy, method, args) -> {
+                  switch (method.getName()) {
+                    case "getComponentIdentifier":
+                      return component;
+                    case "getDisplayName":
+                    case "toString":
+                      return fileName;
+                    case "hashCode":
+                      return System.identityHashCode(proxy);
+                    case "equals":
+                      return proxy == args[0];
+                    default:
+                      throw new UnsupportedOperationException(method.getName());
+                  }
+                });
+    artifacts.put(artifactId, file);
+    String sha = String.format("%040x", i);
+    checksums.put(
+        file,
+        ImmutableFileChecksums.builder()
+            .putDigests(ChecksumAlgorithm.SHA1, sha)
+            .putDigests(ChecksumAlgorithm.SHA256, sha + sha.substring(0, 24))
+            .build());
+  }
+
+  /** Discards everything written, only counting the bytes. */
+  private static final class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+
+    @Override
+    public void close() throws IOException {}
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up the license urls found in poms, a mix of spellings of known licenses and licenses that
+ * are not on the spdx list, and loads the bundled license list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpdxKnownLicensesBenchmark {
+  private static final List<String> URLS =
+      List.of(
+          "https://www.apache.org/licenses/LICENSE-2.0.txt",
+          "http://www.apache.org/licenses/LICENSE-2.0",
+          "https://opensource.org/licenses/MIT",
+          "http://www.opensource.org/licenses/mit-license.php",
+          "https://www.eclipse.org/legal/epl-2.0/",
+          "https://www.gnu.org/licenses/old-licenses/lgpl-2.1.html",
+          "https://spdx.org/licenses/BSD-3-Clause.html",
+          "https://example.com/licenses/proprietary");
+
+  private SpdxKnownLicenses knownLicenses;
+  private List<String> normalizedUrls;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    knownLicenses = SpdxKnownLicenses.knownLicenses(null);
+    normalizedUrls = URLS.stream().map(SpdxKnownLicenses::normalize).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public void normalize(Blackhole blackhole) {
+    for (String url : URLS) {
+      blackhole.consume(SpdxKnownLicenses.normalize(url));
+    }
+  }
+
+  @Benchmark
+  public void lookup(Blackhole blackhole) {
+    for (String url : URLS) {
+      blackhole.consume(knownLicenses.getIdForNormalizedUrl(SpdxKnownLicenses.normalize(url)));
+    }
+  }
+
+  @Benchmark
+  public Object expression() {
+    return new LicenseExpressionCache().expression(normalizedUrls.subList(0, 3), knownLicenses);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public SpdxKnownLicenses loadBundled() throws IOException {
+    return SpdxKnownLicenses.knownLicenses(null);
+  }
+}
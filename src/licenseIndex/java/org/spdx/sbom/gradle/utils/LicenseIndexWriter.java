@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the license url index of the license list bundled with the spdx library, run by the
+ * plugin build so the index ships as a resource and offline builds don't parse the list.
+ */
+public final class LicenseIndexWriter {
+  private LicenseIndexWriter() {}
+
+  /** Writes the index to {@code <args[0]>/org/spdx/sbom/gradle/utils/license-index.txt}. */
+  public static void main(String[] args) throws IOException {
+    Path index =
+        Path.of(args[0])
+            .resolve(LicenseIndexWriter.class.getPackageName().replace('.', '/'))
+            .resolve(SpdxKnownLicenses.BUNDLED_LICENSE_INDEX);
+    Files.createDirectories(index.getParent());
+    try (Writer out = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+      SpdxKnownLicenses.writeIndex(SpdxKnownLicenses.bundledToc(), out);
+    }
+  }
+}
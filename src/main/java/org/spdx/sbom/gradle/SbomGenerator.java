@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.gradle.api.GradleException;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.logging.Logger;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.jacksonstore.MultiFormatStore;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.sbom.gradle.checksums.CachingChecksumCalculator;
+import org.spdx.sbom.gradle.checksums.ChecksumCacheService;
+import org.spdx.sbom.gradle.checksums.ChecksumCalculator;
+import org.spdx.sbom.gradle.checksums.FileChecksums;
+import org.spdx.sbom.gradle.extensions.SpdxSbomTaskExtension;
+import org.spdx.sbom.gradle.maven.PomInfo;
+import org.spdx.sbom.gradle.project.DocumentInfo;
+import org.spdx.sbom.gradle.project.ProjectInfo;
+import org.spdx.sbom.gradle.project.ScmInfo;
+import org.spdx.sbom.gradle.utils.ComponentGraph;
+import org.spdx.sbom.gradle.utils.LicenseExpressionCache;
+import org.spdx.sbom.gradle.utils.PackageIndex;
+import org.spdx.sbom.gradle.utils.SbomFormat;
+import org.spdx.sbom.gradle.utils.SbomMetrics;
+import org.spdx.sbom.gradle.utils.SpdxDocumentBuilder;
+import org.spdx.sbom.gradle.utils.SpdxKnownLicenses;
+import org.spdx.sbom.gradle.utils.VerificationMode;
+import org.spdx.storage.ISerializableModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Generates sbom documents for the targets of a project. Everything that doesn't depend on the
+ * target (project info, repositories, pom information, known licenses and checksums) is set up
+ * once, so several documents can be generated by a single task.
+ */
+final class SbomGenerator {
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+  private final Logger logger;
+  private final ProjectInfo thisProject;
+  private final Map<String, ProjectInfo> allProjectInfo;
+  private final Map<String, URI> mavenRepositories;
+  private final Map<String, PomInfo> poms;
+  private final Supplier<SpdxKnownLicenses> knownLicenses;
+  private final LicenseExpressionCache licenseExpressions;
+  private final CachingChecksumCalculator checksumCalculator;
+  private final int checksumParallelism;
+  @Nullable private Map<File, FileChecksums> checksums;
+  @Nullable private SbomMetrics precomputeMetrics;
+
+  SbomGenerator(
+      Logger logger,
+      ProjectInfo thisProject,
+      Map<String, ProjectInfo> allProjectInfo,
+      Map<String, String> mavenRepositories,
+      Map<String, PomInfo> poms,
+      Supplier<SpdxKnownLicenses> knownLicenses,
+      LicenseExpressionCache licenseExpressions,
+      ChecksumCacheService checksumCacheService,
+      int checksumParallelism) {
+    SpdxModelFactory.init();
+    this.logger = logger;
+    this.thisProject = thisProject;
+    this.allProjectInfo = allProjectInfo;
+    this.mavenRepositories =
+        mavenRepositories.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> URI.create(e.getValue())));
+    this.poms = poms;
+    this.knownLicenses = knownLicenses;
+    this.licenseExpressions = licenseExpressions;
+    this.checksumCalculator =
+        checksumCacheService.cachingCalculator(
+            ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256));
+    this.checksumParallelism = checksumParallelism;
+  }
+
+  /**
+   * Hashes the artifacts of all the documents that will be generated up front, so an artifact
+   * shared by several targets is only looked up once.
+   */
+  void precomputeChecksums(Collection<Map<ComponentArtifactIdentifier, File>> resolvedArtifacts)
+      throws IOException {
+    long start = System.nanoTime();
+    checksums = hash(resolvedArtifacts);
+    // a new calculator, everything it counted so far was for these artifacts
+    precomputeMetrics = new SbomMetrics("precompute");
+    precomputeMetrics.phase("hashArtifacts", start);
+    precomputeMetrics.count("checksumCacheHits", checksumCalculator.getHits());
+    precomputeMetrics.count("checksumCacheMisses", checksumCalculator.getMisses());
+    precomputeMetrics.count("bytesHashed", checksumCalculator.getBytesHashed());
+  }
+
+  private Map<File, FileChecksums> hash(
+      Collection<Map<ComponentArtifactIdentifier, File>> resolvedArtifacts) throws IOException {
+    Set<File> files = new LinkedHashSet<>();
+    for (var artifacts : resolvedArtifacts) {
+      artifacts.forEach(
+          (id, file) -> {
+            if (!(id.getComponentIdentifier() instanceof ProjectComponentIdentifier)) {
+              files.add(file);
+            }
+          });
+    }
+    return checksumCalculator.checksums(files, checksumParallelism);
+  }
+
+  /** The artifacts that need to be hashed, those of components without a reusable package. */
+  static Map<ComponentArtifactIdentifier, File> withoutReused(
+      Map<ComponentArtifactIdentifier, File> resolvedArtifacts, PackageIndex reusable) {
+    Map<ComponentArtifactIdentifier, File> artifacts = new HashMap<>();
+    resolvedArtifacts.forEach(
+        (id, file) -> {
+          if (!reusable.contains(id.getComponentIdentifier().getDisplayName())) {
+            artifacts.put(id, file);
+          }
+        });
+    return artifacts;
+  }
+
+  /**
+   * Generates and writes a document, returns how long each phase took. For incremental documents
+   * {@code packageIndex} is set, the packages of {@code reusable} are reused instead of being
+   * created again and the packages of this document are written to {@code packageIndex} for the
+   * next run. Nothing is reused with a task extension.
+   */
+  SbomMetrics generate(
+      String name,
+      @Nullable SpdxSbomTaskExtension taskExtension,
+      DocumentInfo documentInfo,
+      ScmInfo scmInfo,
+      List<ResolvedComponentResult> rootComponents,
+      Map<ComponentArtifactIdentifier, File> resolvedArtifacts,
+      boolean ignoreNonMavenDependencies,
+      SbomFormat format,
+      boolean streamingOutput,
+      VerificationMode verification,
+      File outputFile,
+      PackageIndex reusable,
+      @Nullable File packageIndex)
+      throws InvalidSPDXAnalysisException, IOException {
+    boolean streaming = streamingOutput && format.isJson();
+    if (streaming && verification == VerificationMode.FULL) {
+      throw new GradleException(
+          "Full verification needs the whole document in memory, "
+              + "use STRUCTURAL or SKIP verification with streamingOutput: "
+              + name);
+    }
+    SbomMetrics metrics = new SbomMetrics(name);
+    long hitsBefore = checksumCalculator.getHits();
+    long missesBefore = checksumCalculator.getMisses();
+    long bytesHashedBefore = checksumCalculator.getBytesHashed();
+    long expressionHitsBefore = licenseExpressions.getHits();
+    long expressionMissesBefore = licenseExpressions.getMisses();
+
+    ISerializableModelStore modelStore =
+        new MultiFormatStore(new InMemSpdxStore(), format.getStoreFormat());
+    SpdxDocumentBuilder documentBuilder =
+        new SpdxDocumentBuilder(
+            thisProject,
+            allProjectInfo,
+            logger,
+            modelStore,
+            resolvedArtifacts,
+            mavenRepositories,
+            poms,
+            taskExtension,
+            documentInfo,
+            scmInfo,
+            knownLicenses,
+            licenseExpressions,
+            checksumCalculator,
+            checksumParallelism,
+            ignoreNonMavenDependencies);
+    // a task extension can change any package, in ways that are not tracked between runs
+    boolean reuse = packageIndex != null && taskExtension == null;
+    if (reuse) {
+      documentBuilder.reuse(reusable);
+    }
+    long start = System.nanoTime();
+    if (checksums != null) {
+      // shared by all the documents of a task, the hashing is recorded for each of them
+      metrics.add(precomputeMetrics);
+      documentBuilder.useChecksums(checksums);
+    } else {
+      documentBuilder.useChecksums(
+          hash(List.of(reuse ? withoutReused(resolvedArtifacts, reusable) : resolvedArtifacts)));
+      metrics.phase("hashArtifacts", start);
+    }
+
+    start = System.nanoTime();
+    // configurations usually overlap, merge them so that shared components are only walked once
+    ComponentGraph graph = ComponentGraph.of(rootComponents);
+    if (streaming) {
+      // packages are written as they are created, building includes serializing
+      try (OutputStream out = newOutputStream(format, outputFile)) {
+        documentBuilder.streamTo(out, format.isPretty());
+        documentBuilder.add(graph);
+      }
+    } else {
+      documentBuilder.add(graph);
+    }
+    metrics.phase("buildDocument", start);
+    metrics.phaseMillis("parseLicenses", documentBuilder.getLicenses().getParseMillis());
+
+    SpdxDocument doc = documentBuilder.getSpdxDocument();
+
+    start = System.nanoTime();
+    // shows verification errors in the final doc
+    List<String> verificationErrors;
+    switch (verification) {
+      case FULL:
+        verificationErrors = doc.verify();
+        break;
+      case STRUCTURAL:
+        verificationErrors = documentBuilder.getStructuralErrors();
+        break;
+      default:
+        verificationErrors = List.of();
+        break;
+    }
+    verificationErrors.forEach(logger::warn);
+    metrics.phase("verify", start);
+
+    if (!streaming) {
+      start = System.nanoTime();
+      try (OutputStream out = newOutputStream(format, outputFile)) {
+        modelStore.serialize(out, doc);
+      }
+      metrics.phase("serialize", start);
+    }
+
+    if (reuse) {
+      documentBuilder.getPackageIndex().write(packageIndex);
+    }
+
+    metrics.count("components", graph.size());
+    metrics.count("packages", documentBuilder.getPackageCount());
+    metrics.count("componentsReused", documentBuilder.getReusedComponentCount());
+    metrics.count("poms", poms.size());
+    metrics.count("checksumCacheHits", checksumCalculator.getHits() - hitsBefore);
+    metrics.count("checksumCacheMisses", checksumCalculator.getMisses() - missesBefore);
+    metrics.count("bytesHashed", checksumCalculator.getBytesHashed() - bytesHashedBefore);
+    metrics.count("licenseParses", documentBuilder.getLicenses().getParses());
+    metrics.count("licenseParsesAvoided", documentBuilder.getLicenses().getReuses());
+    // the expression cache is shared by the whole build, sboms generated at the same time in
+    // other projects are included
+    metrics.count(
+        "licenseExpressionCacheHits", licenseExpressions.getHits() - expressionHitsBefore);
+    metrics.count(
+        "licenseExpressionCacheMisses", licenseExpressions.getMisses() - expressionMissesBefore);
+    metrics.count("verificationWarnings", verificationErrors.size());
+    metrics.count("outputBytes", outputFile.length());
+    return metrics;
+  }
+
+  private static OutputStream newOutputStream(SbomFormat format, File outputFile)
+      throws IOException {
+    return format.wrap(
+        new BufferedOutputStream(Files.newOutputStream(outputFile.toPath()), OUTPUT_BUFFER_SIZE));
+  }
+
+  /**
+   * Logs the metrics of a document, together with those of the pom index it was generated from, and
+   * writes them to {@code report} if it is set.
+   */
+  static void report(
+      Logger logger, SbomMetrics metrics, File pomIndexMetrics, @Nullable File report)
+      throws IOException {
+    SbomMetrics pomIndex = SbomMetrics.read(pomIndexMetrics);
+    if (pomIndex != null) {
+      // from the run that last built the pom index, which may have been an earlier build
+      metrics.input("pomIndex", pomIndex);
+    }
+    metrics.log(logger);
+    if (report != null) {
+      metrics.write(report);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.ServiceReference;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.LocalState;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.spdx.sbom.gradle.maven.EffectivePomBuilder;
+import org.spdx.sbom.gradle.maven.PomCacheService;
+import org.spdx.sbom.gradle.maven.PomExtractionMode;
+import org.spdx.sbom.gradle.maven.PomIndex;
+import org.spdx.sbom.gradle.maven.PomInfo;
+import org.spdx.sbom.gradle.maven.PropertiesForPom;
+import org.spdx.sbom.gradle.maven.ResolvedPomFiles;
+import org.spdx.sbom.gradle.utils.SbomMetrics;
+
+/**
+ * Builds the effective poms of a target's dependencies and writes the extracted {@link PomInfo}
+ * to an index file read by {@link SpdxSbomTask}. Only pom files are resolved while configuring,
+ * the model building happens here so it can be up-to-date checked, cached and run in parallel
+ * with other projects.
+ */
+@CacheableTask
+public abstract class SpdxPomIndexTask extends DefaultTask {
+
+  @ServiceReference
+  abstract Property<PomCacheService> getPomCacheService();
+
+  @Inject
+  protected abstract ObjectFactory getObjects();
+
+  @Internal
+  abstract Property<ResolvedPomFiles> getResolvedPomFiles();
+
+  @Input
+  Map<String, String> getComponents() {
+    return getResolvedPomFiles().get().getComponents();
+  }
+
+  @Input
+  Set<String> getPomCoordinates() {
+    return getResolvedPomFiles().get().getPomFiles().keySet();
+  }
+
+  @InputFiles
+  @PathSensitive(PathSensitivity.NAME_ONLY)
+  FileCollection getPomFiles() {
+    return getObjects()
+        .fileCollection()
+        .from(getResolvedPomFiles().map(r -> r.getPomFiles().values()));
+  }
+
+  @Input
+  Map<String, String> getPomProperties() {
+    Map<String, String> properties = new TreeMap<>();
+    PropertiesForPom.instance()
+        .get()
+        .forEach((k, v) -> properties.put(String.valueOf(k), String.valueOf(v)));
+    return properties;
+  }
+
+  @Input
+  abstract Property<PomExtractionMode> getExtractionMode();
+
+  @Input
+  abstract Property<Boolean> getAllowMissingParentPoms();
+
+  @Internal
+  abstract Property<Integer> getPomParallelism();
+
+  @OutputFile
+  public abstract RegularFileProperty getOutputFile();
+
+  // how long building effective poms took, included in the metrics report of the sbom, local
+  // state so that wall times of one machine don't end up in build cache entries
+  @LocalState
+  abstract RegularFileProperty getMetricsReport();
+
+  @TaskAction
+  public void extractPomInfo() throws IOException {
+    SbomMetrics metrics = new SbomMetrics(getPath());
+    long start = System.nanoTime();
+    EffectivePomBuilder effectivePomBuilder =
+        new EffectivePomBuilder(
+            getResolvedPomFiles().get(),
+            getTemporaryDir().toPath(),
+            getAllowMissingParentPoms().getOrElse(false),
+            getPomCacheService().get().getEffectivePoms(),
+            getExtractionMode().get(),
+            getPomParallelism().getOrElse(1),
+            getLogger());
+    Map<String, PomInfo> poms = effectivePomBuilder.effectivePoms();
+    metrics.phase("effectivePoms", start);
+
+    start = System.nanoTime();
+    PomIndex.write(getOutputFile().get().getAsFile(), poms);
+    metrics.phase("writeIndex", start);
+
+    metrics.count("poms", poms.size());
+    metrics.count("pomFiles", getResolvedPomFiles().get().getPomFiles().size());
+    metrics.count("effectivePomCacheHits", effectivePomBuilder.getCacheHits());
+    metrics.count("effectivePomsBuilt", effectivePomBuilder.getBuilt());
+    metrics.log(getLogger());
+    metrics.write(getMetricsReport().get().getAsFile());
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.ServiceReference;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.LocalState;
+import org.gradle.api.tasks.Nested;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.DisableCachingByDefault;
+import org.spdx.sbom.gradle.checksums.ChecksumCacheService;
+import org.spdx.sbom.gradle.extensions.SpdxSbomTaskExtension;
+import org.spdx.sbom.gradle.maven.PomIndex;
+import org.spdx.sbom.gradle.project.DocumentInfo;
+import org.spdx.sbom.gradle.project.ProjectInfo;
+import org.spdx.sbom.gradle.project.ProjectInfoService;
+import org.spdx.sbom.gradle.project.ScmInfo;
+import org.spdx.sbom.gradle.utils.PackageIndex;
+import org.spdx.sbom.gradle.utils.SbomFormat;
+import org.spdx.sbom.gradle.utils.SbomMetrics;
+import org.spdx.sbom.gradle.utils.SpdxKnownLicensesService;
+import org.spdx.sbom.gradle.utils.VerificationMode;
+
+/**
+ * Generates the sboms of all targets of a project in a single task, used instead of the {@link
+ * SpdxSbomTask} of each target when {@link SpdxSbomExtension#getBatchTargets()} is set. Project
+ * info, pom information, known licenses and checksums are loaded once for all targets, and one
+ * document is still written per target. The target tasks then depend on this task and skip
+ * themselves.
+ */
+@DisableCachingByDefault(
+    because = "Sboms record their creation time, only reproducible sboms are cacheable")
+public abstract class SpdxSbomBatchTask extends DefaultTask {
+  private final List<TargetSpec> targets = new ArrayList<>();
+
+  public SpdxSbomBatchTask() {
+    // cacheable when the task of each target would be
+    getOutputs()
+        .cacheIf(
+            "reproducible sboms without a task extension",
+            task -> {
+              for (TargetSpec target : ((SpdxSbomBatchTask) task).getTargets()) {
+                if (!target.getReproducible().getOrElse(false)
+                    || target.getTaskExtension().isPresent()) {
+                  return false;
+                }
+              }
+              return true;
+            });
+  }
+
+  @ServiceReference
+  abstract Property<SpdxKnownLicensesService> getSpdxKnownLicensesService();
+
+  @ServiceReference
+  abstract Property<ChecksumCacheService> getChecksumCacheService();
+
+  @ServiceReference
+  abstract Property<ProjectInfoService> getProjectInfoService();
+
+  @Inject
+  protected abstract ObjectFactory getObjects();
+
+  @Nested
+  List<TargetSpec> getTargets() {
+    return targets;
+  }
+
+  TargetSpec addTarget(String name) {
+    TargetSpec target = getObjects().newInstance(TargetSpec.class);
+    target.getName().set(name);
+    targets.add(target);
+    return target;
+  }
+
+  @Internal
+  Map<String, ProjectInfo> getAllProjectInfo() {
+    return getProjectInfoService().get().getAllProjectInfo();
+  }
+
+  @Input
+  Map<String, ProjectInfo> getRelocatableProjectInfo() {
+    Map<String, ProjectInfo> projects = new TreeMap<>();
+    getAllProjectInfo()
+        .forEach((path, info) -> projects.put(path, SpdxSbomTask.relocatable(info)));
+    return projects;
+  }
+
+  @Internal
+  abstract Property<ProjectInfo> getThisProject();
+
+  @Input
+  ProjectInfo getRelocatableThisProject() {
+    return SpdxSbomTask.relocatable(getThisProject().get());
+  }
+
+  @Input
+  abstract MapProperty<String, String> getMavenRepositories();
+
+  /** Pom information for the dependencies of all targets. */
+  @InputFile
+  @PathSensitive(PathSensitivity.NONE)
+  abstract RegularFileProperty getPomIndex();
+
+  // informational, changes on every run of the pom index task
+  @Internal
+  abstract RegularFileProperty getPomIndexMetrics();
+
+  // the remote license list changes over time, and with it the licenses that are recognized
+  @InputFiles
+  @PathSensitive(PathSensitivity.NONE)
+  FileCollection getLicenseList() {
+    return getObjects()
+        .fileCollection()
+        .from(getSpdxKnownLicensesService().map(SpdxKnownLicensesService::getLicenseListFiles));
+  }
+
+  @Internal
+  abstract Property<Integer> getChecksumParallelism();
+
+  @TaskAction
+  public void generateSboms() throws Exception {
+    SbomGenerator generator =
+        new SbomGenerator(
+            getLogger(),
+            getThisProject().get(),
+            getAllProjectInfo(),
+            getMavenRepositories().get(),
+            PomIndex.read(getPomIndex().get().getAsFile()),
+            getSpdxKnownLicensesService().get()::getKnownLicenses,
+            getSpdxKnownLicensesService().get().getLicenseExpressions(),
+            getChecksumCacheService().get(),
+            getChecksumParallelism().getOrElse(1));
+    List<PackageIndex> reusable = new ArrayList<>();
+    List<Map<ComponentArtifactIdentifier, File>> allArtifacts = new ArrayList<>();
+    for (TargetSpec target : targets) {
+      PackageIndex packages =
+          target.getIncremental().getOrElse(false) && !target.getTaskExtension().isPresent()
+              ? PackageIndex.read(target.getPackageIndex().get().getAsFile())
+                  .unchanged(target.getResolvedArtifacts().get())
+              : PackageIndex.empty();
+      reusable.add(packages);
+      allArtifacts.add(SbomGenerator.withoutReused(target.getResolvedArtifacts().get(), packages));
+    }
+    generator.precomputeChecksums(allArtifacts);
+
+    for (int i = 0; i < targets.size(); i++) {
+      TargetSpec target = targets.get(i);
+      SbomMetrics metrics =
+          generator.generate(
+              getPath() + " " + target.getName().get(),
+              target.getTaskExtension().getOrNull(),
+              target.getDocumentInfo().get(),
+              target.getScmInfo().get(),
+              target.getRootComponents().get(),
+              target.getResolvedArtifacts().get(),
+              target.getIgnoreNonMavenDependencies().getOrElse(false),
+              target.getFormat().get(),
+              target.getStreamingOutput().getOrElse(false),
+              target.getVerification().get(),
+              target.getOutputFile().get().getAsFile(),
+              reusable.get(i),
+              target.getIncremental().getOrElse(false)
+                  ? target.getPackageIndex().get().getAsFile()
+                  : null);
+      SbomGenerator.report(
+          getLogger(),
+          metrics,
+          getPomIndexMetrics().get().getAsFile(),
+          target.getMetricsReport().map(RegularFile::getAsFile).getOrNull());
+    }
+  }
+
+  /** The inputs and output of a single target, mirrors those of {@link SpdxSbomTask}. */
+  public abstract static class TargetSpec {
+
+    @Inject
+    protected abstract ObjectFactory getObjects();
+
+    @Input
+    abstract Property<String> getName();
+
+    @Input
+    abstract ListProperty<ResolvedComponentResult> getRootComponents();
+
+    @Internal
+    abstract MapProperty<ComponentArtifactIdentifier, File> getResolvedArtifacts();
+
+    @InputFiles
+    @PathSensitive(PathSensitivity.NAME_ONLY)
+    FileCollection getResolvedArtifactFiles() {
+      return getObjects().fileCollection().from(getResolvedArtifacts().map(Map::values));
+    }
+
+    @Input
+    Map<String, String> getResolvedArtifactNames() {
+      Map<String, String> names = new TreeMap<>();
+      getResolvedArtifacts()
+          .get()
+          .forEach((id, file) -> names.put(id.getDisplayName(), file.getName()));
+      return names;
+    }
+
+    @Input
+    @Optional
+    abstract Property<Boolean> getIgnoreNonMavenDependencies();
+
+    @Input
+    abstract Property<Boolean> getReproducible();
+
+    @Input
+    abstract Property<DocumentInfo> getDocumentInfo();
+
+    @Input
+    abstract Property<ScmInfo> getScmInfo();
+
+    @Input
+    abstract Property<Boolean> getStreamingOutput();
+
+    @Input
+    abstract Property<SbomFormat> getFormat();
+
+    @Input
+    abstract Property<VerificationMode> getVerification();
+
+    // only changes how the document is generated, not the document
+    @Internal
+    abstract Property<Boolean> getIncremental();
+
+    @LocalState
+    abstract RegularFileProperty getPackageIndex();
+
+    @OutputFile
+    public abstract RegularFileProperty getOutputFile();
+
+    @OutputFile
+    @Optional
+    abstract RegularFileProperty getMetricsReport();
+
+    /** The extension set on the {@link SpdxSbomTask} of this target. */
+    @Internal
+    abstract Property<SpdxSbomTaskExtension> getTaskExtension();
+  }
+}
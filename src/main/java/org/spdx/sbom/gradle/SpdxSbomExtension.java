@@ -15,17 +15,56 @@
  */
 package org.spdx.sbom.gradle;
 
+import java.time.Duration;
+import java.time.Instant;
 import org.gradle.api.Action;
 import org.gradle.api.NamedDomainObjectContainer;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Nested;
+import org.spdx.sbom.gradle.maven.PomExtractionMode;
+import org.spdx.sbom.gradle.utils.SbomFormat;
+import org.spdx.sbom.gradle.utils.VerificationMode;
 
 public interface SpdxSbomExtension {
 
   Property<Boolean> getOnlyUseLocalLicenses();
 
+  /**
+   * How long a downloaded copy of the spdx license list is used before it is revalidated with
+   * spdx.org. Defaults to 24 hours.
+   */
+  Property<Duration> getLicenseListTtl();
+
+  /** The maximum number of threads used to compute artifact checksums in a single task. */
+  Property<Integer> getChecksumParallelism();
+
+  /** The maximum number of threads used to build effective poms in a single task. Defaults to 1. */
+  Property<Integer> getPomParallelism();
+
+  /**
+   * How license, url, organization and developer information is read from poms. Defaults to
+   * {@link PomExtractionMode#MODEL_BUILDER}.
+   */
+  Property<PomExtractionMode> getPomExtractionMode();
+
+  /**
+   * Build the effective pom of a dependency whose parent pom couldn't be resolved, for example
+   * because the parent coordinates need interpolation, with an empty parent instead of failing.
+   * Whatever the dependency inherits from the parent, like licenses, organization and urls, is
+   * then missing from the sbom. Defaults to false.
+   */
+  Property<Boolean> getAllowMissingParentPoms();
+
+  /**
+   * Generate all targets in a single task ({@code spdxSbomBatch}) that shares pom information,
+   * known licenses and checksums between them, instead of a task per target. The task of each
+   * target then depends on the batch task, generates nothing itself and declares no output file.
+   * Read when the sbom tasks are configured and can't be changed after. Defaults to false.
+   */
+  Property<Boolean> getBatchTargets();
+
   NamedDomainObjectContainer<Target> getTargets();
 
   abstract class Target {
@@ -37,6 +76,46 @@ public interface SpdxSbomExtension {
 
     public abstract RegularFileProperty getOutputFile();
 
+    /**
+     * Produce byte for byte identical sboms for identical inputs, which also lets the sbom task
+     * be loaded from the build cache. Requires {@link Document#getCreated()}. Defaults to false.
+     */
+    public abstract Property<Boolean> getReproducible();
+
+    /**
+     * How the generated document is verified. Defaults to {@link VerificationMode#FULL}, which can
+     * take longer than generating the document for large sboms, and to {@link
+     * VerificationMode#STRUCTURAL} for {@link #getStreamingOutput() streamed} documents, which
+     * can't be fully verified.
+     */
+    public abstract Property<VerificationMode> getVerification();
+
+    /** The format of the output file. Defaults to {@link SbomFormat#JSON_PRETTY}. */
+    public abstract Property<SbomFormat> getFormat();
+
+    /**
+     * Write each package to the json document as soon as it is created instead of keeping the whole
+     * document in memory, for very large sboms. Only applies to json formats and can't be combined
+     * with {@link VerificationMode#FULL}. Defaults to false.
+     */
+    public abstract Property<Boolean> getStreamingOutput();
+
+    /**
+     * Keep the packages of each run in an index under the build directory, and on the next run
+     * reuse those of components that resolve to the same unchanged artifacts instead of hashing the
+     * artifacts and creating the packages again, so that changing a few dependencies only creates
+     * their packages. The document is the same as without it and is still verified as a whole.
+     * Ignored with a task extension. Defaults to false.
+     */
+    public abstract Property<Boolean> getIncremental();
+
+    /**
+     * A json report of how long each phase of generating the sbom took and of the work done, like
+     * bytes hashed, packages created and cache hits. Defaults to {@code
+     * build/reports/spdx/<target>.metrics.json}, the numbers are also logged with {@code --info}.
+     */
+    public abstract RegularFileProperty getMetricsReport();
+
     @Nested
     public abstract Scm getScm();
 
@@ -69,6 +148,12 @@ public interface SpdxSbomExtension {
 
     public abstract Property<String> getPackageSupplier();
 
+    /**
+     * The creation time recorded in the document, defaults to {@code SOURCE_DATE_EPOCH} when that
+     * environment variable is set and to the time of the build otherwise.
+     */
+    public abstract Property<Instant> getCreated();
+
     @Nested
     public abstract UberPackage getUberPackage();
 
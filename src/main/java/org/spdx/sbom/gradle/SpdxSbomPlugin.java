@@ -17,12 +17,15 @@ package org.spdx.sbom.gradle;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.gradle.api.Plugin;
@@ -30,6 +33,7 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.Transformer;
 import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.dsl.DependencyHandler;
 import org.gradle.api.artifacts.repositories.ArtifactRepository;
 import org.gradle.api.artifacts.repositories.MavenArtifactRepository;
 import org.gradle.api.artifacts.result.ArtifactResult;
@@ -37,17 +41,27 @@ import org.gradle.api.artifacts.result.ResolvedArtifactResult;
 import org.gradle.api.artifacts.result.ResolvedComponentResult;
 import org.gradle.api.artifacts.type.ArtifactTypeDefinition;
 import org.gradle.api.configuration.BuildFeatures;
+import org.gradle.api.file.RegularFile;
 import org.gradle.api.internal.GradleInternal;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
 import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.TaskProvider;
 import org.gradle.internal.component.local.model.OpaqueComponentIdentifier;
 import org.spdx.sbom.gradle.SpdxSbomExtension.Target;
+import org.spdx.sbom.gradle.checksums.ChecksumCacheService;
+import org.spdx.sbom.gradle.maven.PomCacheService;
+import org.spdx.sbom.gradle.maven.PomExtractionMode;
 import org.spdx.sbom.gradle.maven.PomResolver;
+import org.spdx.sbom.gradle.maven.ResolvedPomFiles;
 import org.spdx.sbom.gradle.project.DocumentInfo;
 import org.spdx.sbom.gradle.project.ProjectInfo;
 import org.spdx.sbom.gradle.project.ProjectInfoService;
 import org.spdx.sbom.gradle.project.ScmInfo;
+import org.spdx.sbom.gradle.utils.SbomFormat;
 import org.spdx.sbom.gradle.utils.SpdxKnownLicensesService;
+import org.spdx.sbom.gradle.utils.VerificationMode;
 
 /** A plugin to generate spdx sboms. */
 public class SpdxSbomPlugin implements Plugin<Project> {
@@ -84,6 +98,16 @@ public class SpdxSbomPlugin implements Plugin<Project> {
     extension
         .getOnlyUseLocalLicenses()
         .convention(project.getGradle().getStartParameter().isOffline());
+    extension
+        .getChecksumParallelism()
+        .convention(project.getGradle().getStartParameter().getMaxWorkerCount());
+    extension.getLicenseListTtl().convention(Duration.ofHours(24));
+    extension.getPomParallelism().convention(1);
+    extension.getPomExtractionMode().convention(PomExtractionMode.MODEL_BUILDER);
+    extension.getAllowMissingParentPoms().convention(false);
+    extension.getBatchTargets().convention(false);
+    // decides which tasks get inputs and outputs when they are configured, so it can't change after
+    extension.getBatchTargets().finalizeValueOnRead();
 
     Provider<SpdxKnownLicensesService> knownLicenseServiceProvider =
         project
@@ -96,7 +120,41 @@ public class SpdxSbomPlugin implements Plugin<Project> {
                   spec.getParameters()
                       .getOnlyUseLocalLicenses()
                       .set(extension.getOnlyUseLocalLicenses());
+                  spec.getParameters()
+                      .getLicenseCacheDirectory()
+                      .set(
+                          new File(
+                              project.getGradle().getGradleUserHomeDir(),
+                              "caches/spdx-sbom/licenses"));
+                  spec.getParameters().getLicenseListTtl().set(extension.getLicenseListTtl());
                 });
+    project
+        .getGradle()
+        .getSharedServices()
+        .registerIfAbsent(
+            ChecksumCacheService.SERVICE_NAME,
+            ChecksumCacheService.class,
+            spec ->
+                spec.getParameters()
+                    .getIndexFile()
+                    .set(
+                        new File(
+                            project.getGradle().getGradleUserHomeDir(),
+                            "caches/spdx-sbom/checksums.bin")));
+    Provider<PomCacheService> pomCacheService =
+        project
+            .getGradle()
+            .getSharedServices()
+            .registerIfAbsent(
+                PomCacheService.SERVICE_NAME,
+                PomCacheService.class,
+                spec ->
+                    spec.getParameters()
+                        .getEffectivePomCacheDirectory()
+                        .set(
+                            new File(
+                                project.getGradle().getGradleUserHomeDir(),
+                                "caches/spdx-sbom/effective-poms")));
     extension
         .getTargets()
         .configureEach(
@@ -107,13 +165,49 @@ public class SpdxSbomPlugin implements Plugin<Project> {
               target.getScm().getTool().convention("git");
               target.getScm().getRevision().convention("<no-scm-revision>");
               target.getScm().getUri().convention("<no-scm-uri>");
+              target.getReproducible().convention(false);
+              target.getStreamingOutput().convention(false);
+              target.getIncremental().convention(false);
+              target
+                  .getMetricsReport()
+                  .convention(
+                      project
+                          .getLayout()
+                          .getBuildDirectory()
+                          .file("reports/spdx/" + target.getName() + ".metrics.json"));
+              target.getFormat().convention(SbomFormat.JSON_PRETTY);
+              // a streamed document is never in memory as a whole, which full verification needs
+              target
+                  .getVerification()
+                  .convention(
+                      target
+                          .getStreamingOutput()
+                          .zip(
+                              target.getFormat(),
+                              (streaming, format) ->
+                                  streaming && format.isJson()
+                                      ? VerificationMode.STRUCTURAL
+                                      : VerificationMode.FULL));
+              target
+                  .getDocument()
+                  .getCreated()
+                  .convention(
+                      project
+                          .getProviders()
+                          .environmentVariable("SOURCE_DATE_EPOCH")
+                          .map(epoch -> Instant.ofEpochSecond(Long.parseLong(epoch.trim()))));
               target
                   .getOutputFile()
                   .convention(
                       project
                           .getLayout()
                           .getBuildDirectory()
-                          .file("spdx/" + target.getName() + ".spdx.json"));
+                          .file(
+                              target
+                                  .getFormat()
+                                  .map(
+                                      format ->
+                                          "spdx/" + target.getName() + format.getExtension())));
             });
     TaskProvider<Task> aggregate =
         project
@@ -124,17 +218,55 @@ public class SpdxSbomPlugin implements Plugin<Project> {
                   t.setGroup("Spdx sbom tasks");
                   t.setDescription("Run all sbom tasks in this project");
                 });
+    TaskProvider<SpdxSbomBatchTask> batchTask =
+        createBatchTask(project, extension, pomCacheService);
     extension
         .getTargets()
-        .all(target -> createTaskForTarget(project, target, extension, aggregate));
+        .all(
+            target ->
+                createTaskForTarget(
+                    project, target, extension, aggregate, batchTask, pomCacheService));
+  }
+
+  private static String capitalizedName(Target target) {
+    return (target.getName().length() <= 1)
+        ? target.getName().toUpperCase()
+        : target.getName().substring(0, 1).toUpperCase() + target.getName().substring(1);
   }
 
   private void createTaskForTarget(
-      Project project, Target target, SpdxSbomExtension extension, TaskProvider<Task> aggregate) {
-    String name =
-        (target.getName().length() <= 1)
-            ? target.getName().toUpperCase()
-            : target.getName().substring(0, 1).toUpperCase() + target.getName().substring(1);
+      Project project,
+      Target target,
+      SpdxSbomExtension extension,
+      TaskProvider<Task> aggregate,
+      TaskProvider<SpdxSbomBatchTask> batchTask,
+      Provider<PomCacheService> pomCacheService) {
+    String name = capitalizedName(target);
+    // with batchTargets the batch task generates the sbom of this target instead. The target tasks
+    // are kept so that they can still be configured and depended on like without it, but nothing is
+    // resolved for them and they declare no outputs, which belong to the batch task.
+    Property<Boolean> batchTargets = extension.getBatchTargets();
+    TaskProvider<SpdxPomIndexTask> pomIndexTask =
+        project
+            .getTasks()
+            .register(
+                "spdxPomIndexFor" + name,
+                SpdxPomIndexTask.class,
+                t -> {
+                  t.setDescription(
+                      "Extracts pom information for the " + target.getName() + " sbom");
+                  if (batchTargets.get()) {
+                    t.onlyIf("batchTargets is not set", x -> false);
+                    return;
+                  }
+                  configurePomIndexTask(
+                      t,
+                      project,
+                      "intermediates/spdx/" + target.getName(),
+                      rootComponents(project, target),
+                      extension,
+                      pomCacheService);
+                });
     TaskProvider<SpdxSbomTask> task =
         project
             .getTasks()
@@ -143,89 +275,224 @@ public class SpdxSbomPlugin implements Plugin<Project> {
                 SpdxSbomTask.class,
                 t -> {
                   t.setGroup("Spdx sbom tasks");
+                  if (batchTargets.get()) {
+                    t.dependsOn(batchTask);
+                    t.onlyIf("batchTargets is not set", x -> false);
+                    return;
+                  }
                   t.getOutputFile().set(target.getOutputFile());
                   t.getThisProject().set(ProjectInfo.from(project));
                   t.getDocumentInfo().set(DocumentInfo.from(target));
                   t.getScmInfo().set(ScmInfo.from(target));
                   t.getIgnoreNonMavenDependencies().set(target.getIgnoreNonMavenDependencies());
+                  t.getReproducible().set(target.getReproducible());
+                  t.getStreamingOutput().set(target.getStreamingOutput());
+                  t.getFormat().set(target.getFormat());
+                  t.getVerification().set(target.getVerification());
+                  t.getIncremental().set(target.getIncremental());
+                  t.getPackageIndex().set(packageIndex(project, target));
+                  t.getChecksumParallelism().set(extension.getChecksumParallelism());
+                  addResolvedArtifacts(project, target, t.getResolvedArtifacts());
+                  t.getRootComponents().addAll(rootComponents(project, target));
+                  t.getPomIndex().set(pomIndexTask.flatMap(SpdxPomIndexTask::getOutputFile));
+                  t.getPomIndexMetrics()
+                      .set(pomIndexTask.flatMap(SpdxPomIndexTask::getMetricsReport));
+                  t.getMetricsReport().set(target.getMetricsReport());
+                  t.getMavenRepositories().set(mavenRepositories(project));
+                });
+    aggregate.configure(t -> t.dependsOn(task));
+  }
 
-                  boolean hasAndroidPlugin = project.getPlugins().hasPlugin("com.android.base");
-
-                  List<String> configurationNames = target.getConfigurations().get();
-                  var rootComponentsProperty =
+  private TaskProvider<SpdxSbomBatchTask> createBatchTask(
+      Project project, SpdxSbomExtension extension, Provider<PomCacheService> pomCacheService) {
+    TaskProvider<SpdxPomIndexTask> pomIndexTask =
+        project
+            .getTasks()
+            .register(
+                "spdxPomIndexBatch",
+                SpdxPomIndexTask.class,
+                t -> {
+                  t.setDescription("Extracts pom information for all sboms in this project");
+                  // one index for the union of all targets, shared poms are only built once
+                  var rootComponents =
                       project.getObjects().listProperty(ResolvedComponentResult.class);
-                  for (var configurationName : configurationNames) {
-                    final Provider<Set<ResolvedArtifactResult>> artifacts;
-                    if (hasAndroidPlugin) {
-                      // https://cs.android.com/android-studio/platform/tools/base/+/mirror-goog-studio-main:build-system/gradle-core/src/main/java/com/android/build/gradle/internal/publishing/AndroidArtifacts.java;l=575?q=AndroidArtifacts.java
-                      String artifactType = "android-aar-or-jar";
-                      artifacts =
-                          project
-                              .getConfigurations()
-                              .getByName(configurationName)
-                              .getIncoming()
-                              .artifactView(
-                                  viewConfiguration ->
-                                      viewConfiguration.attributes(
-                                          attributes ->
-                                              attributes.attribute(
-                                                  ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE,
-                                                  artifactType)))
-                              .getArtifacts()
-                              .getResolvedArtifacts();
-                    } else {
-                      artifacts =
-                          project
-                              .getConfigurations()
-                              .getByName(configurationName)
-                              .getIncoming()
-                              .getArtifacts()
-                              .getResolvedArtifacts();
-                    }
-                    t.getResolvedArtifacts().putAll(artifacts.map(new ArtifactTransformer()));
+                  extension
+                      .getTargets()
+                      .forEach(target -> rootComponents.addAll(rootComponents(project, target)));
+                  configurePomIndexTask(
+                      t,
+                      project,
+                      "intermediates/spdx-batch",
+                      rootComponents,
+                      extension,
+                      pomCacheService);
+                });
+    return project
+        .getTasks()
+        .register(
+            "spdxSbomBatch",
+            SpdxSbomBatchTask.class,
+            t -> {
+              t.setGroup("Spdx sbom tasks");
+              t.setDescription("Generates the sboms of all targets in this project in one task");
+              t.getThisProject().set(ProjectInfo.from(project));
+              t.getChecksumParallelism().set(extension.getChecksumParallelism());
+              t.getPomIndex().set(pomIndexTask.flatMap(SpdxPomIndexTask::getOutputFile));
+              t.getPomIndexMetrics().set(pomIndexTask.flatMap(SpdxPomIndexTask::getMetricsReport));
+              t.getMavenRepositories().set(mavenRepositories(project));
+              for (Target target : extension.getTargets()) {
+                SpdxSbomBatchTask.TargetSpec spec = t.addTarget(target.getName());
+                spec.getOutputFile().set(target.getOutputFile());
+                spec.getDocumentInfo().set(DocumentInfo.from(target));
+                spec.getScmInfo().set(ScmInfo.from(target));
+                spec.getIgnoreNonMavenDependencies().set(target.getIgnoreNonMavenDependencies());
+                spec.getReproducible().set(target.getReproducible());
+                spec.getStreamingOutput().set(target.getStreamingOutput());
+                spec.getFormat().set(target.getFormat());
+                spec.getVerification().set(target.getVerification());
+                spec.getIncremental().set(target.getIncremental());
+                spec.getPackageIndex().set(packageIndex(project, target));
+                spec.getMetricsReport().set(target.getMetricsReport());
+                // configured like without batchTargets, on the task of the target, which depends
+                // on this task so the value is read without adding a dependency on it
+                TaskProvider<SpdxSbomTask> targetTask =
+                    project
+                        .getTasks()
+                        .named("spdxSbomFor" + capitalizedName(target), SpdxSbomTask.class);
+                spec.getTaskExtension()
+                    .set(project.provider(() -> targetTask.get().getTaskExtension().getOrNull()));
+                addResolvedArtifacts(project, target, spec.getResolvedArtifacts());
+                spec.getRootComponents().addAll(rootComponents(project, target));
+              }
+            });
+  }
 
-                    Provider<ResolvedComponentResult> rootComponent =
-                        project
-                            .getConfigurations()
-                            .getByName(configurationName)
-                            .getIncoming()
-                            .getResolutionResult()
-                            .getRootComponent();
+  private static Provider<RegularFile> packageIndex(Project project, Target target) {
+    return project
+        .getLayout()
+        .getBuildDirectory()
+        .file("intermediates/spdx/" + target.getName() + "/packages.bin");
+  }
 
-                    rootComponentsProperty.add(rootComponent);
-                  }
-                  t.getRootComponents().addAll(rootComponentsProperty);
+  private static Provider<List<ResolvedComponentResult>> rootComponents(
+      Project project, Target target) {
+    return target
+        .getConfigurations()
+        .flatMap(
+            configurationNames -> {
+              var rootComponentsProperty =
+                  project.getObjects().listProperty(ResolvedComponentResult.class);
+              for (var configurationName : configurationNames) {
+                rootComponentsProperty.add(
+                    project
+                        .getConfigurations()
+                        .getByName(configurationName)
+                        .getIncoming()
+                        .getResolutionResult()
+                        .getRootComponent());
+              }
+              return rootComponentsProperty;
+            });
+  }
 
-                  t.getPoms()
-                      .putAll(
-                          rootComponentsProperty.map(
-                              rootComponents -> {
-                                PomResolver pomResolver =
-                                    PomResolver.newPomResolver(
-                                        project.getDependencies(),
-                                        project.getConfigurations(),
-                                        project.getLogger());
+  private static void configurePomIndexTask(
+      SpdxPomIndexTask t,
+      Project project,
+      String outputDirectory,
+      Provider<List<ResolvedComponentResult>> rootComponents,
+      SpdxSbomExtension extension,
+      Provider<PomCacheService> pomCacheService) {
+    t.getExtractionMode().set(extension.getPomExtractionMode());
+    t.getAllowMissingParentPoms().set(extension.getAllowMissingParentPoms());
+    t.getPomParallelism().set(extension.getPomParallelism());
+    t.getOutputFile()
+        .set(project.getLayout().getBuildDirectory().file(outputDirectory + "/poms.bin"));
+    t.getMetricsReport()
+        .set(project.getLayout().getBuildDirectory().file(outputDirectory + "/poms.metrics.json"));
+    t.getResolvedPomFiles()
+        .set(
+            rootComponents.map(
+                resolvePomFiles(
+                    project.getDependencies(),
+                    pomCacheService,
+                    project.getLogger(),
+                    t.getPath())));
+    // resolve the pom files only once, however often the inputs are read
+    t.getResolvedPomFiles().finalizeValueOnRead();
+  }
 
-                                var resolvedPomArtifacts =
-                                    pomResolver.resolvePomArtifacts(rootComponents);
-                                return pomResolver.effectivePoms(resolvedPomArtifacts);
-                              }));
+  // doesn't capture the project, which can't be stored in the configuration cache, the pom files
+  // are resolved when the cache entry is stored and only the result is kept
+  private static Transformer<ResolvedPomFiles, List<ResolvedComponentResult>> resolvePomFiles(
+      DependencyHandler dependencies,
+      Provider<PomCacheService> pomCacheService,
+      Logger logger,
+      String taskPath) {
+    return roots -> {
+      long start = System.nanoTime();
+      PomResolver pomResolver =
+          PomResolver.newPomResolver(dependencies, pomCacheService.get(), logger);
+      ResolvedPomFiles resolvedPomFiles =
+          pomResolver.resolvePomFiles(pomResolver.resolvePomArtifacts(roots));
+      // happens while task inputs are calculated, before the task runs
+      logger.info(
+          "spdx operation '{} > resolvePoms' took {} ms",
+          taskPath,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      logger.info(
+          "spdx counter '{} > pomFiles' = {}", taskPath, resolvedPomFiles.getPomFiles().size());
+      return resolvedPomFiles;
+    };
+  }
 
-                  t.getMavenRepositories()
-                      .set(
-                          project.provider(
-                              () ->
-                                  getAllRepositories(project).entrySet().stream()
-                                      .filter(e -> e.getValue() instanceof MavenArtifactRepository)
-                                      .collect(
-                                          Collectors.toMap(
-                                              Entry::getKey,
-                                              e ->
-                                                  ((MavenArtifactRepository) e.getValue())
-                                                      .getUrl()
-                                                      .toString()))));
-                });
-    aggregate.configure(t -> t.dependsOn(task));
+  private static void addResolvedArtifacts(
+      Project project,
+      Target target,
+      MapProperty<ComponentArtifactIdentifier, File> resolvedArtifacts) {
+    boolean hasAndroidPlugin = project.getPlugins().hasPlugin("com.android.base");
+
+    List<String> configurationNames = target.getConfigurations().get();
+    for (var configurationName : configurationNames) {
+      final Provider<Set<ResolvedArtifactResult>> artifacts;
+      if (hasAndroidPlugin) {
+        // https://cs.android.com/android-studio/platform/tools/base/+/mirror-goog-studio-main:build-system/gradle-core/src/main/java/com/android/build/gradle/internal/publishing/AndroidArtifacts.java;l=575?q=AndroidArtifacts.java
+        String artifactType = "android-aar-or-jar";
+        artifacts =
+            project
+                .getConfigurations()
+                .getByName(configurationName)
+                .getIncoming()
+                .artifactView(
+                    viewConfiguration ->
+                        viewConfiguration.attributes(
+                            attributes ->
+                                attributes.attribute(
+                                    ArtifactTypeDefinition.ARTIFACT_TYPE_ATTRIBUTE,
+                                    artifactType)))
+                .getArtifacts()
+                .getResolvedArtifacts();
+      } else {
+        artifacts =
+            project
+                .getConfigurations()
+                .getByName(configurationName)
+                .getIncoming()
+                .getArtifacts()
+                .getResolvedArtifacts();
+      }
+      resolvedArtifacts.putAll(artifacts.map(new ArtifactTransformer()));
+    }
+  }
+
+  private Provider<Map<String, String>> mavenRepositories(Project project) {
+    return project.provider(
+        () ->
+            getAllRepositories(project).entrySet().stream()
+                .filter(e -> e.getValue() instanceof MavenArtifactRepository)
+                .collect(
+                    Collectors.toMap(
+                        Entry::getKey,
+                        e -> ((MavenArtifactRepository) e.getValue()).getUrl().toString())));
   }
 
   private Map<String, ArtifactRepository> getAllRepositories(Project project) {
@@ -16,15 +16,14 @@
 package org.spdx.sbom.gradle;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.net.URI;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 import javax.inject.Inject;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
 import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.model.ObjectFactory;
 import org.gradle.api.provider.ListProperty;
@@ -32,42 +31,77 @@ import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.services.ServiceReference;
 import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.LocalState;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.work.DisableCachingByDefault;
-import org.spdx.jacksonstore.MultiFormatStore;
-import org.spdx.jacksonstore.MultiFormatStore.Format;
-import org.spdx.library.SpdxModelFactory;
-import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.sbom.gradle.checksums.ChecksumCacheService;
 import org.spdx.sbom.gradle.extensions.SpdxSbomTaskExtension;
-import org.spdx.sbom.gradle.maven.PomInfo;
+import org.spdx.sbom.gradle.maven.PomIndex;
 import org.spdx.sbom.gradle.project.DocumentInfo;
+import org.spdx.sbom.gradle.project.ImmutableProjectInfo;
 import org.spdx.sbom.gradle.project.ProjectInfo;
 import org.spdx.sbom.gradle.project.ProjectInfoService;
 import org.spdx.sbom.gradle.project.ScmInfo;
-import org.spdx.sbom.gradle.utils.SpdxDocumentBuilder;
+import org.spdx.sbom.gradle.utils.PackageIndex;
+import org.spdx.sbom.gradle.utils.SbomFormat;
+import org.spdx.sbom.gradle.utils.SbomMetrics;
 import org.spdx.sbom.gradle.utils.SpdxKnownLicensesService;
-import org.spdx.storage.ISerializableModelStore;
-import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.sbom.gradle.utils.VerificationMode;
 
 @DisableCachingByDefault(
-    because = "Generates SBOM which is not easily cacheable due to varying external dependencies")
+    because = "Sboms record their creation time, only reproducible sboms are cacheable")
 public abstract class SpdxSbomTask extends DefaultTask {
+  public SpdxSbomTask() {
+    // a task extension can change the document in ways that are not tracked as inputs
+    getOutputs()
+        .cacheIf(
+            "reproducible sbom without a task extension",
+            task -> {
+              SpdxSbomTask sbomTask = (SpdxSbomTask) task;
+              return sbomTask.getReproducible().getOrElse(false)
+                  && !sbomTask.getTaskExtension().isPresent();
+            });
+  }
 
   @ServiceReference
   abstract Property<SpdxKnownLicensesService> getSpdxKnownLicensesService();
 
+  @ServiceReference
+  abstract Property<ChecksumCacheService> getChecksumCacheService();
+
   @Inject
   protected abstract ObjectFactory getObjects();
 
   @Input
   abstract ListProperty<ResolvedComponentResult> getRootComponents();
 
-  @Input
+  @Internal
   abstract MapProperty<ComponentArtifactIdentifier, File> getResolvedArtifacts();
 
+  // artifacts are tracked by content and file name rather than by absolute path, so that cached
+  // outputs can be reused from other checkouts and gradle user homes
+  @InputFiles
+  @PathSensitive(PathSensitivity.NAME_ONLY)
+  FileCollection getResolvedArtifactFiles() {
+    return getObjects().fileCollection().from(getResolvedArtifacts().map(Map::values));
+  }
+
+  @Input
+  Map<String, String> getResolvedArtifactNames() {
+    Map<String, String> names = new TreeMap<>();
+    getResolvedArtifacts()
+        .get()
+        .forEach((id, file) -> names.put(id.getDisplayName(), file.getName()));
+    return names;
+  }
+
   @Input
   @Optional
   abstract Property<Boolean> getIgnoreNonMavenDependencies();
@@ -75,19 +109,36 @@ public abstract class SpdxSbomTask extends DefaultTask {
   @OutputFile
   public abstract RegularFileProperty getOutputFile();
 
+  /** Phase timings and counters of the generation, as json. */
+  @OutputFile
+  @Optional
+  abstract RegularFileProperty getMetricsReport();
+
   @ServiceReference
   abstract Property<ProjectInfoService> getProjectInfoService();
 
-  @Input
+  @Internal
   Map<String, ProjectInfo> getAllProjectInfo() {
     return getProjectInfoService().get().getAllProjectInfo();
   }
 
   @Input
-  abstract MapProperty<String, String> getMavenRepositories();
+  Map<String, ProjectInfo> getRelocatableProjectInfo() {
+    Map<String, ProjectInfo> projects = new TreeMap<>();
+    getAllProjectInfo().forEach((path, info) -> projects.put(path, relocatable(info)));
+    return projects;
+  }
 
   @Input
-  abstract MapProperty<String, PomInfo> getPoms();
+  abstract MapProperty<String, String> getMavenRepositories();
+
+  @InputFile
+  @PathSensitive(PathSensitivity.NONE)
+  abstract RegularFileProperty getPomIndex();
+
+  // informational, changes on every run of the pom index task
+  @Internal
+  abstract RegularFileProperty getPomIndexMetrics();
 
   @Input
   abstract Property<DocumentInfo> getDocumentInfo();
@@ -95,47 +146,90 @@ public abstract class SpdxSbomTask extends DefaultTask {
   @Input
   abstract Property<ScmInfo> getScmInfo();
 
-  @Input
+  @Internal
   abstract Property<ProjectInfo> getThisProject();
 
+  @Input
+  ProjectInfo getRelocatableThisProject() {
+    return relocatable(getThisProject().get());
+  }
+
+  @Input
+  abstract Property<Boolean> getReproducible();
+
+  @Input
+  abstract Property<Boolean> getStreamingOutput();
+
+  @Input
+  abstract Property<SbomFormat> getFormat();
+
+  @Input
+  abstract Property<VerificationMode> getVerification();
+
+  // only changes how the document is generated, not the document
+  @Internal
+  abstract Property<Boolean> getIncremental();
+
+  /** The packages of the previous run, only used for incremental targets. */
+  @LocalState
+  abstract RegularFileProperty getPackageIndex();
+
+  // the remote license list changes over time, and with it the licenses that are recognized
+  @InputFiles
+  @PathSensitive(PathSensitivity.NONE)
+  FileCollection getLicenseList() {
+    return getObjects()
+        .fileCollection()
+        .from(getSpdxKnownLicensesService().map(SpdxKnownLicensesService::getLicenseListFiles));
+  }
+
   @Internal
   public abstract Property<SpdxSbomTaskExtension> getTaskExtension();
 
+  @Internal
+  abstract Property<Integer> getChecksumParallelism();
+
+  // project directories are absolute and don't end up in the sbom
+  static ProjectInfo relocatable(ProjectInfo info) {
+    return ImmutableProjectInfo.copyOf(info).withProjectDirectory(new File(info.getPath()));
+  }
+
   @TaskAction
   public void generateSbom() throws Exception {
-    SpdxModelFactory.init();
-    ISerializableModelStore modelStore =
-        new MultiFormatStore(new InMemSpdxStore(), Format.JSON_PRETTY);
-
-    var uriMap =
-        getMavenRepositories().get().entrySet().stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, e -> URI.create(e.getValue())));
-    SpdxDocumentBuilder documentBuilder =
-        new SpdxDocumentBuilder(
+    boolean incremental = getIncremental().getOrElse(false);
+    File packageIndex = getPackageIndex().get().getAsFile();
+    SbomGenerator generator =
+        new SbomGenerator(
+            getLogger(),
             getThisProject().get(),
             getAllProjectInfo(),
-            getLogger(),
-            modelStore,
-            getResolvedArtifacts().get(),
-            uriMap,
-            getPoms().get(),
+            getMavenRepositories().get(),
+            PomIndex.read(getPomIndex().get().getAsFile()),
+            getSpdxKnownLicensesService().get()::getKnownLicenses,
+            getSpdxKnownLicensesService().get().getLicenseExpressions(),
+            getChecksumCacheService().get(),
+            getChecksumParallelism().getOrElse(1));
+    SbomMetrics metrics =
+        generator.generate(
+            getPath(),
             getTaskExtension().getOrNull(),
             getDocumentInfo().get(),
             getScmInfo().get(),
-            getSpdxKnownLicensesService().get().getKnownLicenses(),
-            getIgnoreNonMavenDependencies().getOrElse(false));
-
-    for (var rootComponent : getRootComponents().get()) {
-      documentBuilder.add(rootComponent);
-    }
-
-    SpdxDocument doc = documentBuilder.getSpdxDocument();
-
-    // shows verification errors in the final doc
-    List<String> verificationErrors = doc.verify();
-    verificationErrors.forEach(errors -> getLogger().warn(errors));
-
-    FileOutputStream out = new FileOutputStream(getOutputFile().get().getAsFile());
-    modelStore.serialize(out, doc);
+            getRootComponents().get(),
+            getResolvedArtifacts().get(),
+            getIgnoreNonMavenDependencies().getOrElse(false),
+            getFormat().get(),
+            getStreamingOutput().getOrElse(false),
+            getVerification().get(),
+            getOutputFile().get().getAsFile(),
+            incremental
+                ? PackageIndex.read(packageIndex).unchanged(getResolvedArtifacts().get())
+                : PackageIndex.empty(),
+            incremental ? packageIndex : null);
+    SbomGenerator.report(
+        getLogger(),
+        metrics,
+        getPomIndexMetrics().get().getAsFile(),
+        getMetricsReport().map(RegularFile::getAsFile).getOrNull());
   }
 }
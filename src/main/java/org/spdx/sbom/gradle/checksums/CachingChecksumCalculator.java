@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ChecksumCalculator} that consults a {@link ChecksumCache} before reading a file, files
+ * that are not cached are hashed by the delegate.
+ */
+public class CachingChecksumCalculator extends ChecksumCalculator {
+  private final ChecksumCalculator delegate;
+  private final ChecksumCache cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong bytesHashed = new AtomicLong();
+
+  public CachingChecksumCalculator(ChecksumCalculator delegate, ChecksumCache cache) {
+    super(delegate.getAlgorithms());
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public FileChecksums checksums(File file) throws IOException {
+    Path path = file.toPath().toAbsolutePath();
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    long length = attributes.size();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+
+    FileChecksums cached = cache.get(path, length, lastModified, getAlgorithms());
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+    misses.incrementAndGet();
+    FileChecksums computed = delegate.checksums(file);
+    bytesHashed.addAndGet(length);
+    cache.put(path, length, lastModified, computed);
+    return computed;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /** The total size of the files that were hashed because they were not in the cache. */
+  public long getBytesHashed() {
+    return bytesHashed.get();
+  }
+}
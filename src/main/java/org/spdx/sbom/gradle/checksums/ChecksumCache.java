@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import com.google.common.io.BaseEncoding;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+/**
+ * A compact binary index of file checksums keyed by absolute path, file length and last modified
+ * time. Files in the gradle dependency cache never change once downloaded, so a matching entry
+ * lets us skip reading the file entirely. Each entry records when it was last used, so that entries
+ * of files no build asks for anymore can be dropped without looking at the files.
+ */
+public class ChecksumCache {
+  private static final int MAGIC = 0x53505843; // "SPXC"
+  private static final int VERSION = 2;
+  private static final BaseEncoding HEX = BaseEncoding.base16().lowerCase();
+  // how often the last use of an entry is recorded, so that builds that only hit the cache don't
+  // write the index every time
+  private static final Duration TOUCH_INTERVAL = Duration.ofDays(1);
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private volatile boolean dirty = false;
+
+  private static final class Entry {
+    private final long length;
+    private final long lastModified;
+    private final Map<ChecksumAlgorithm, String> digests;
+    private volatile long lastUsed;
+    // whether this build used the entry, those are never pruned
+    private volatile boolean used;
+
+    private Entry(
+        long length,
+        long lastModified,
+        Map<ChecksumAlgorithm, String> digests,
+        long lastUsed,
+        boolean used) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.digests = digests;
+      this.lastUsed = lastUsed;
+      this.used = used;
+    }
+  }
+
+  /** Returns the cached checksums if the file is unchanged and all algorithms are present. */
+  @Nullable
+  public FileChecksums get(
+      Path file, long length, long lastModified, Set<ChecksumAlgorithm> algorithms) {
+    Entry entry = entries.get(file.toString());
+    if (entry == null
+        || entry.length != length
+        || entry.lastModified != lastModified
+        || !entry.digests.keySet().containsAll(algorithms)) {
+      return null;
+    }
+    entry.used = true;
+    long now = System.currentTimeMillis();
+    if (now - entry.lastUsed > TOUCH_INTERVAL.toMillis()) {
+      entry.lastUsed = now;
+      dirty = true;
+    }
+    ImmutableFileChecksums.Builder result = ImmutableFileChecksums.builder();
+    for (var algorithm : algorithms) {
+      result.putDigests(algorithm, entry.digests.get(algorithm));
+    }
+    return result.build();
+  }
+
+  public void put(Path file, long length, long lastModified, FileChecksums checksums) {
+    Map<ChecksumAlgorithm, String> digests = new EnumMap<>(ChecksumAlgorithm.class);
+    digests.putAll(checksums.getDigests());
+    entries.put(
+        file.toString(),
+        new Entry(length, lastModified, digests, System.currentTimeMillis(), true));
+    dirty = true;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Loads an index written by {@link #store(Path, Duration)}, unreadable or outdated indexes are
+   * ignored.
+   */
+  public static ChecksumCache load(Path indexFile) throws IOException {
+    ChecksumCache cache = new ChecksumCache();
+    if (!Files.isRegularFile(indexFile)) {
+      return cache;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        return cache;
+      }
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        String path = in.readUTF();
+        long length = in.readLong();
+        long lastModified = in.readLong();
+        long lastUsed = in.readLong();
+        int digestCount = in.readUnsignedByte();
+        Map<ChecksumAlgorithm, String> digests = new EnumMap<>(ChecksumAlgorithm.class);
+        for (int d = 0; d < digestCount; d++) {
+          ChecksumAlgorithm algorithm = ChecksumAlgorithm.valueOf(in.readUTF());
+          byte[] digest = new byte[in.readUnsignedByte()];
+          in.readFully(digest);
+          digests.put(algorithm, HEX.encode(digest));
+        }
+        cache.entries.put(path, new Entry(length, lastModified, digests, lastUsed, false));
+      }
+    } catch (EOFException | IllegalArgumentException e) {
+      // truncated index or unknown algorithm name, start over with an empty cache
+      return new ChecksumCache();
+    }
+    return cache;
+  }
+
+  /**
+   * Writes the index if anything changed. Other builds sharing the index may have stored entries
+   * since it was loaded, so it is read again and merged while holding a lock on {@code
+   * <index>.lock}, the most recently used entry of a file wins. Entries this build didn't use and
+   * that weren't used for {@code maxUnused} are dropped, like those of files that were deleted. The
+   * index is written to a temporary file first and moved into place so {@link #load}, which doesn't
+   * lock, never observes a partially written index.
+   */
+  public void store(Path indexFile, Duration maxUnused) throws IOException {
+    if (!dirty) {
+      return;
+    }
+    Files.createDirectories(indexFile.getParent());
+    Path lockFile = indexFile.resolveSibling(indexFile.getFileName() + ".lock");
+    // file locks are held by the whole jvm, so builds in one jvm must not overlap either
+    synchronized (ChecksumCache.class) {
+      try (FileChannel channel =
+              FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+          FileLock lock = channel.lock()) {
+        load(indexFile)
+            .entries
+            .forEach((path, stored) -> entries.merge(path, stored, ChecksumCache::newer));
+        long unusedSince = System.currentTimeMillis() - maxUnused.toMillis();
+        entries.values().removeIf(entry -> !entry.used && entry.lastUsed <= unusedSince);
+        write(indexFile);
+        dirty = false;
+      }
+    }
+  }
+
+  private static Entry newer(Entry own, Entry stored) {
+    return own.lastUsed >= stored.lastUsed ? own : stored;
+  }
+
+  private void write(Path indexFile) throws IOException {
+    Path tmp =
+        Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        // snapshot the entries so the count matches what we write
+        var snapshot = Map.copyOf(entries);
+        out.writeInt(snapshot.size());
+        for (var e : snapshot.entrySet()) {
+          out.writeUTF(e.getKey());
+          out.writeLong(e.getValue().length);
+          out.writeLong(e.getValue().lastModified);
+          out.writeLong(e.getValue().lastUsed);
+          out.writeByte(e.getValue().digests.size());
+          for (var digest : e.getValue().digests.entrySet()) {
+            byte[] bytes = HEX.decode(digest.getValue());
+            out.writeUTF(digest.getKey().name());
+            out.writeByte(bytes.length);
+            out.write(bytes);
+          }
+        }
+      }
+      Files.move(
+          tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+}
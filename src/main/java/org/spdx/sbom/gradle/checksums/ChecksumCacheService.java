@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A shared service holding the persistent checksum cache. The index is loaded once per build and
+ * written back when the build finishes, merged with what other builds stored in the meantime and
+ * without entries that no build used for 30 days.
+ */
+public abstract class ChecksumCacheService
+    implements BuildService<ChecksumCacheService.Params>, AutoCloseable {
+  public static final String SERVICE_NAME = "spdxChecksumCacheService";
+
+  private static final Logger LOGGER = Logging.getLogger(ChecksumCacheService.class);
+  // like gradle's own cleanup of the dependency cache that most of the hashed files are in
+  private static final Duration MAX_UNUSED = Duration.ofDays(30);
+
+  public interface Params extends BuildServiceParameters {
+    RegularFileProperty getIndexFile();
+  }
+
+  private final ChecksumCache cache;
+
+  public ChecksumCacheService() {
+    ChecksumCache loaded;
+    try {
+      loaded = ChecksumCache.load(getIndexFile());
+    } catch (IOException e) {
+      LOGGER.info("Could not read spdx checksum cache, starting with an empty cache", e);
+      loaded = new ChecksumCache();
+    }
+    this.cache = loaded;
+  }
+
+  /** Wraps {@code delegate} so it reads from and populates the shared cache. */
+  public CachingChecksumCalculator cachingCalculator(ChecksumCalculator delegate) {
+    return new CachingChecksumCalculator(delegate, cache);
+  }
+
+  private Path getIndexFile() {
+    return getParameters().getIndexFile().get().getAsFile().toPath();
+  }
+
+  @Override
+  public void close() {
+    try {
+      cache.store(getIndexFile(), MAX_UNUSED);
+    } catch (IOException e) {
+      LOGGER.info("Could not write spdx checksum cache", e);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+/**
+ * Computes all configured digests of a file while reading it only once. The file is streamed
+ * through a single buffer and every chunk is fed to each digest in turn.
+ */
+public class ChecksumCalculator {
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Map<ChecksumAlgorithm, HashFunction> hashFunctions;
+
+  ChecksumCalculator(Set<ChecksumAlgorithm> algorithms) {
+    if (algorithms.isEmpty()) {
+      throw new IllegalArgumentException("At least one checksum algorithm is required");
+    }
+    Map<ChecksumAlgorithm, HashFunction> functions = new EnumMap<>(ChecksumAlgorithm.class);
+    for (var algorithm : algorithms) {
+      functions.put(algorithm, hashFunction(algorithm));
+    }
+    this.hashFunctions = Collections.unmodifiableMap(functions);
+  }
+
+  public static ChecksumCalculator forAlgorithms(ChecksumAlgorithm... algorithms) {
+    return new ChecksumCalculator(
+        algorithms.length == 0
+            ? EnumSet.noneOf(ChecksumAlgorithm.class)
+            : EnumSet.copyOf(Arrays.asList(algorithms)));
+  }
+
+  public Set<ChecksumAlgorithm> getAlgorithms() {
+    return hashFunctions.keySet();
+  }
+
+  public FileChecksums checksums(File file) throws IOException {
+    Map<ChecksumAlgorithm, Hasher> hashers = new EnumMap<>(ChecksumAlgorithm.class);
+    hashFunctions.forEach((algorithm, function) -> hashers.put(algorithm, function.newHasher()));
+    Hasher[] hasherArray = hashers.values().toArray(new Hasher[0]);
+
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream in = new FileInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        for (Hasher hasher : hasherArray) {
+          hasher.putBytes(buffer, 0, read);
+        }
+      }
+    }
+
+    ImmutableFileChecksums.Builder result = ImmutableFileChecksums.builder();
+    hashers.forEach((algorithm, hasher) -> result.putDigests(algorithm, hasher.hash().toString()));
+    return result.build();
+  }
+
+  /**
+   * Computes checksums for all {@code files} on a bounded pool of at most {@code parallelism}
+   * threads. The returned map iterates in the order of {@code files}, regardless of the order in
+   * which the digests complete.
+   */
+  public Map<File, FileChecksums> checksums(Collection<File> files, int parallelism)
+      throws IOException {
+    Set<File> uniqueFiles = new LinkedHashSet<>(files);
+    Map<File, FileChecksums> result = new LinkedHashMap<>();
+    if (parallelism <= 1 || uniqueFiles.size() <= 1) {
+      for (File file : uniqueFiles) {
+        result.put(file, checksums(file));
+      }
+      return result;
+    }
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, uniqueFiles.size()),
+            new ThreadFactoryBuilder().setNameFormat("spdx-checksum-%d").setDaemon(true).build());
+    try {
+      List<Future<FileChecksums>> futures = new ArrayList<>(uniqueFiles.size());
+      for (File file : uniqueFiles) {
+        futures.add(executor.submit(() -> checksums(file)));
+      }
+      int i = 0;
+      for (File file : uniqueFiles) {
+        result.put(file, await(futures.get(i++), file));
+      }
+      return result;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static FileChecksums await(Future<FileChecksums> future, File file) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while computing checksums of " + file);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IOException("Could not compute checksums of " + file, e.getCause());
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static HashFunction hashFunction(ChecksumAlgorithm algorithm) {
+    switch (algorithm) {
+      case SHA1:
+        return Hashing.sha1();
+      case SHA256:
+        return Hashing.sha256();
+      case SHA384:
+        return Hashing.sha384();
+      case SHA512:
+        return Hashing.sha512();
+      case MD5:
+        return Hashing.md5();
+      default:
+        throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm);
+    }
+  }
+}
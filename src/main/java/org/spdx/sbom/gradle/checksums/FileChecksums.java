@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import java.util.Map;
+import org.immutables.value.Value.Immutable;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+/** Hex encoded digests of a single file. */
+@Immutable
+public interface FileChecksums {
+  Map<ChecksumAlgorithm, String> getDigests();
+
+  default String get(ChecksumAlgorithm algorithm) {
+    String digest = getDigests().get(algorithm);
+    if (digest == null) {
+      throw new IllegalStateException("No " + algorithm + " checksum was computed");
+    }
+    return digest;
+  }
+}
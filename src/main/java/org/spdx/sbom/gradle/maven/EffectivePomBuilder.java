@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.DefaultModelBuilder;
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Builds the {@link PomInfo} of components from pom files that were already resolved by {@link
+ * PomResolver}. Nothing is resolved here, so this can run in a task action and on worker threads.
+ */
+public class EffectivePomBuilder {
+  private final ThreadLocal<DefaultModelBuilder> modelBuilders;
+  private final ResolvedPomFiles resolvedPomFiles;
+  private final ModelResolver modelResolver;
+  private final StreamingPomExtractor streamingPomExtractor;
+  @Nullable private final EffectivePomCache effectivePomCache;
+  private final PomExtractionMode extractionMode;
+  private final int parallelism;
+  private final Logger logger;
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong built = new AtomicLong();
+
+  /**
+   * @param stubDirectory where placeholder poms for unresolved boms and parents are written
+   * @param allowMissingParents build poms whose parent pom wasn't resolved with an empty parent,
+   *     instead of failing
+   * @param parallelism the maximum number of threads used to build effective poms
+   */
+  public EffectivePomBuilder(
+      ResolvedPomFiles resolvedPomFiles,
+      Path stubDirectory,
+      boolean allowMissingParents,
+      @Nullable EffectivePomCache effectivePomCache,
+      PomExtractionMode extractionMode,
+      int parallelism,
+      Logger logger) {
+    DefaultModelBuilderFactory defaultModelBuilderFactory = new DefaultModelBuilderFactory();
+    // model builders are not thread-safe, but are cheap to reuse on a single thread
+    this.modelBuilders = ThreadLocal.withInitial(defaultModelBuilderFactory::newInstance);
+    this.resolvedPomFiles = resolvedPomFiles;
+    this.modelResolver =
+        new PomFileModelResolver(
+            resolvedPomFiles.getPomFiles(), stubDirectory, allowMissingParents, logger);
+    this.streamingPomExtractor = new StreamingPomExtractor(resolvedPomFiles.getPomFiles());
+    this.effectivePomCache = effectivePomCache;
+    this.extractionMode = extractionMode;
+    this.parallelism = parallelism;
+    this.logger = logger;
+  }
+
+  /** Returns the {@link PomInfo} of every component, keyed and ordered by display name. */
+  public Map<String, PomInfo> effectivePoms() {
+    Map<String, String> components = resolvedPomFiles.getComponents();
+    Map<String, PomInfo> effectivePoms = new TreeMap<>();
+    if (parallelism > 1 && components.size() > 1) {
+      effectivePoms.putAll(effectivePomsInParallel(components));
+    } else {
+      for (var e : components.entrySet()) {
+        effectivePoms.put(e.getKey(), pomInfo(e.getValue()));
+      }
+    }
+    return new LinkedHashMap<>(effectivePoms);
+  }
+
+  /** The number of poms that were read from the effective pom cache. */
+  public long getCacheHits() {
+    return cacheHits.get();
+  }
+
+  /** The number of poms whose information was extracted, because they were not cached. */
+  public long getBuilt() {
+    return built.get();
+  }
+
+  private Map<String, PomInfo> effectivePomsInParallel(Map<String, String> components) {
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, components.size()),
+            new ThreadFactoryBuilder().setNameFormat("spdx-pom-%d").setDaemon(true).build());
+    try {
+      List<String> names = new ArrayList<>(components.keySet());
+      List<Future<PomInfo>> futures = new ArrayList<>(names.size());
+      for (var name : names) {
+        String gav = components.get(name);
+        futures.add(executor.submit(() -> pomInfo(gav)));
+      }
+      Map<String, PomInfo> effectivePoms = new TreeMap<>();
+      for (int i = 0; i < names.size(); i++) {
+        effectivePoms.put(names.get(i), futures.get(i).get());
+      }
+      return effectivePoms;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GradleException("Interrupted while determining effective POMs", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new GradleException("Could not determine effective POM", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private PomInfo pomInfo(String gav) {
+    File pomFile = resolvedPomFiles.getPomFiles().get(gav);
+    if (pomFile == null) {
+      throw new GradleException("No pom file was resolved for " + gav);
+    }
+    String cacheKey = null;
+    if (effectivePomCache != null) {
+      try {
+        cacheKey =
+            effectivePomCache.key(
+                pomFile,
+                gav.substring(gav.lastIndexOf(':') + 1),
+                resolvedPomFiles.getPomFiles(),
+                PropertiesForPom.instance().get(),
+                extractionMode.getId());
+      } catch (IOException e) {
+        logger.debug("Could not compute effective pom cache key for " + pomFile, e);
+      }
+      if (cacheKey != null) {
+        PomInfo cached = effectivePomCache.get(cacheKey);
+        if (cached != null) {
+          cacheHits.incrementAndGet();
+          return cached;
+        }
+      }
+    }
+
+    Model model = null;
+    if (extractionMode == PomExtractionMode.STREAMING) {
+      model = streamingPomExtractor.extract(pomFile);
+      if (model == null) {
+        logger.debug("Building effective pom for {}, it can't be read by streaming", pomFile);
+      }
+    }
+    if (model == null) {
+      model = resolveEffectivePom(pomFile);
+    }
+    PomInfo pomInfo = toPomInfo(model);
+    built.incrementAndGet();
+    if (cacheKey != null) {
+      try {
+        effectivePomCache.put(cacheKey, pomInfo);
+      } catch (IOException e) {
+        logger.debug("Could not write effective pom cache entry for " + pomFile, e);
+      }
+    }
+    return pomInfo;
+  }
+
+  private PomInfo toPomInfo(Model model) {
+    return ImmutablePomInfo.builder()
+        .addAllLicenses(
+            model.getLicenses().stream()
+                .map(
+                    l ->
+                        ImmutableLicenseInfo.builder()
+                            .name(OptionalOfNonEmpty(l.getName()).orElse("NOASSERTION"))
+                            .url(OptionalOfNonEmpty(l.getUrl()).orElse("NOASSERTION"))
+                            .build())
+                .collect(Collectors.toList()))
+        .homepage(extractHomepage(model))
+        .organization(Optional.ofNullable(model.getOrganization()))
+        .addAllDevelopers(
+            model.getDevelopers().stream()
+                .map(
+                    d ->
+                        ImmutableDeveloperInfo.builder()
+                            .name(OptionalOfNonEmpty(d.getName()))
+                            .email(OptionalOfNonEmpty(d.getEmail()))
+                            .organization(OptionalOfNonEmpty(d.getOrganization()))
+                            .build())
+                .collect(Collectors.toList()))
+        .build();
+  }
+
+  private Optional<String> OptionalOfNonEmpty(String s) {
+    if (s == null) return Optional.empty();
+
+    String trimmed = s.trim();
+    if (trimmed.isEmpty()) {
+      return Optional.empty();
+    } else {
+      return Optional.of(s);
+    }
+  }
+
+  private Model resolveEffectivePom(File pomFile) {
+    ModelBuildingRequest request = new DefaultModelBuildingRequest();
+    request.setPomFile(pomFile);
+    request.setModelResolver(modelResolver);
+    request.getSystemProperties().putAll(PropertiesForPom.instance().get());
+    request.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+
+    try {
+      return modelBuilders.get().build(request).getEffectiveModel();
+    } catch (ModelBuildingException e) {
+      throw new GradleException("Could not determine effective POM", e);
+    }
+  }
+
+  private String extractHomepage(Model mavenModel) {
+    String url = mavenModel.getUrl();
+    return (url == null) ? "" : url;
+  }
+}
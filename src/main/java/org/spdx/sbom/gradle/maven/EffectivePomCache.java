@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk cache of the {@link PomInfo} extracted from effective poms. Entries are keyed by the
+ * checksums of the pom file and of its whole parent chain, and the {@link PropertiesForPom} values
+ * used to build it, so the cache can be shared by every project and build using the same gradle
+ * user home. Released poms never change. Poms whose own version or the version of any parent in
+ * their chain is a snapshot are never cached, and neither are poms whose parents weren't resolved.
+ * Snapshot dependencies and imported boms don't prevent caching, they don't change the extracted
+ * information. Entries that haven't been used for a while are removed by {@link #prune}.
+ */
+public class EffectivePomCache {
+  // bump when the extracted fields or their serialized form change
+  private static final int FORMAT_VERSION = 2;
+  // last used times are only updated this often, to not write to the cache on every hit
+  private static final Duration TOUCH_INTERVAL = Duration.ofDays(1);
+  private static final Duration PRUNE_INTERVAL = Duration.ofDays(1);
+  private static final String LAST_PRUNED = "last-pruned";
+
+  private static final String SNAPSHOT = "-SNAPSHOT";
+
+  private final Path directory;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public EffectivePomCache(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Computes the cache key, or returns null if the pom must not be cached.
+   *
+   * @param pomFiles the resolved poms, keyed by group:artifact:version, to find parents in
+   */
+  @Nullable
+  public String key(
+      File pom,
+      String version,
+      Map<String, File> pomFiles,
+      Properties properties,
+      String extractor)
+      throws IOException {
+    if (isSnapshot(version)) {
+      return null;
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    hasher.putString(extractor, StandardCharsets.UTF_8);
+    new TreeMap<>(properties)
+        .forEach(
+            (k, v) ->
+                hasher
+                    .putString(String.valueOf(k), StandardCharsets.UTF_8)
+                    .putByte((byte) '=')
+                    .putString(String.valueOf(v), StandardCharsets.UTF_8)
+                    .putByte((byte) 0));
+    Set<String> seen = new HashSet<>();
+    File current = pom;
+    while (current != null) {
+      hasher.putBytes(Files.readAllBytes(current.toPath()));
+      var parent = ParentPomPrefetcher.readDeclaredParent(current);
+      if (parent == null) {
+        break;
+      }
+      if (!parent.isLiteral() || !seen.add(parent.gav())) {
+        // interpolated coordinates or a cycle, the parent wasn't resolved
+        return null;
+      }
+      // a parent is found by the version declared here, which is also its project version
+      if (isSnapshot(parent.version)) {
+        return null;
+      }
+      current = pomFiles.get(parent.gav());
+      if (current == null) {
+        return null;
+      }
+    }
+    return hasher.hash().toString();
+  }
+
+  @Nullable
+  public PomInfo get(String key) {
+    Path entry = entry(key);
+    if (Files.isRegularFile(entry)) {
+      try (ObjectInputStream in =
+          new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+        PomInfo pomInfo = (PomInfo) in.readObject();
+        hits.incrementAndGet();
+        touch(entry);
+        return pomInfo;
+      } catch (IOException | ClassNotFoundException | ClassCastException e) {
+        // unreadable entry (e.g. written by an incompatible plugin version), rebuild it
+      }
+    }
+    misses.incrementAndGet();
+    return null;
+  }
+
+  public void put(String key, PomInfo pomInfo) throws IOException {
+    Path entry = entry(key);
+    Files.createDirectories(entry.getParent());
+    Path tmp = Files.createTempFile(entry.getParent(), key, ".tmp");
+    try {
+      try (ObjectOutputStream out =
+          new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeObject(pomInfo);
+      }
+      Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Deletes entries that haven't been used for {@code maxUnused}. Builds sharing the cache only
+   * prune it once a day, returns the number of deleted entries.
+   */
+  public int prune(Duration maxUnused) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    Path lastPruned = directory.resolve(LAST_PRUNED);
+    long now = System.currentTimeMillis();
+    if (Files.exists(lastPruned)
+        && now - Files.getLastModifiedTime(lastPruned).toMillis() < PRUNE_INTERVAL.toMillis()) {
+      return 0;
+    }
+    Files.write(lastPruned, new byte[0]);
+    long cutoff = now - maxUnused.toMillis();
+    int deleted = 0;
+    try (DirectoryStream<Path> buckets = Files.newDirectoryStream(directory, Files::isDirectory)) {
+      for (Path bucket : buckets) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(bucket, "*.bin")) {
+          for (Path entry : entries) {
+            try {
+              if (Files.getLastModifiedTime(entry).toMillis() < cutoff
+                  && Files.deleteIfExists(entry)) {
+                deleted++;
+              }
+            } catch (NoSuchFileException e) {
+              // pruned by another build
+            }
+          }
+        }
+      }
+    }
+    return deleted;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private Path entry(String key) {
+    return directory.resolve(key.substring(0, 2)).resolve(key + ".bin");
+  }
+
+  // records that an entry was used, so prune keeps it
+  private static void touch(Path entry) {
+    try {
+      long now = System.currentTimeMillis();
+      if (now - Files.getLastModifiedTime(entry).toMillis() > TOUCH_INTERVAL.toMillis()) {
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(now));
+      }
+    } catch (IOException e) {
+      // the entry is still usable, it may just be pruned earlier than needed
+    }
+  }
+
+  private static boolean isSnapshot(String version) {
+    return version.endsWith(SNAPSHOT);
+  }
+}
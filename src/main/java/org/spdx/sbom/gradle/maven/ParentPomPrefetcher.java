@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
+import org.gradle.api.artifacts.dsl.DependencyHandler;
+import org.gradle.api.artifacts.query.ArtifactResolutionQuery;
+import org.gradle.api.artifacts.result.ResolvedArtifactResult;
+import org.gradle.api.logging.Logger;
+import org.gradle.maven.MavenModule;
+import org.gradle.maven.MavenPomArtifact;
+
+/**
+ * Resolves the parent chains of a set of poms before their effective models are built. Instead of
+ * letting the maven model builder discover and resolve parents one at a time, the raw {@code
+ * <parent>} of every pom is read and all missing parents of one level are resolved in a single
+ * artifact resolution query, so N sequential resolutions become roughly as many queries as the
+ * deepest parent chain is long. Resolved files are remembered in the {@link ResolvedPomCache} so
+ * parents shared between projects are only resolved once per build.
+ */
+class ParentPomPrefetcher {
+  private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+  private final DependencyHandler dependencies;
+  private final ResolvedPomCache resolvedPoms;
+  private final Logger logger;
+
+  ParentPomPrefetcher(
+      DependencyHandler dependencies, ResolvedPomCache resolvedPoms, Logger logger) {
+    this.dependencies = dependencies;
+    this.resolvedPoms = resolvedPoms;
+    this.logger = logger;
+  }
+
+  /**
+   * Prefetches the parents of {@code poms} and returns every parent pom in their chains, keyed by
+   * group:artifact:version.
+   */
+  Map<String, File> prefetch(Collection<File> poms) {
+    Map<String, File> parents = new LinkedHashMap<>();
+    Set<String> seen = new HashSet<>();
+    Collection<File> level = poms;
+    int depth = 0;
+    while (!level.isEmpty()) {
+      Map<String, File> nextLevel = new LinkedHashMap<>();
+      Map<String, ParentCoordinates> missing = new LinkedHashMap<>();
+      for (File pom : level) {
+        ParentCoordinates parent = readParent(pom);
+        if (parent == null || !seen.add(parent.gav())) {
+          continue;
+        }
+        File cached = resolvedPoms.getIfPresent(parent.gav());
+        if (cached != null) {
+          nextLevel.put(parent.gav(), cached);
+        } else {
+          missing.put(parent.gav(), parent);
+        }
+      }
+      if (!missing.isEmpty()) {
+        nextLevel.putAll(resolve(missing.values()));
+        depth++;
+        logger.debug("Prefetched {} parent poms at depth {}", missing.size(), depth);
+      }
+      parents.putAll(nextLevel);
+      level = nextLevel.values();
+    }
+    return parents;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, File> resolve(Collection<ParentCoordinates> parents) {
+    ArtifactResolutionQuery query = dependencies.createArtifactResolutionQuery();
+    for (var parent : parents) {
+      query.forModule(parent.groupId, parent.artifactId, parent.version);
+    }
+    var result = query.withArtifacts(MavenModule.class, MavenPomArtifact.class).execute();
+    Map<String, File> resolved = new LinkedHashMap<>();
+    for (var component : result.getResolvedComponents()) {
+      if (!(component.getId() instanceof ModuleComponentIdentifier)) {
+        continue;
+      }
+      var id = (ModuleComponentIdentifier) component.getId();
+      for (var artifact : component.getArtifacts(MavenPomArtifact.class)) {
+        if (artifact instanceof ResolvedArtifactResult) {
+          File pom = ((ResolvedArtifactResult) artifact).getFile();
+          String gav = ResolvedPomCache.key(id.getGroup(), id.getModule(), id.getVersion());
+          resolvedPoms.put(gav, pom);
+          resolved.put(gav, pom);
+        }
+      }
+    }
+    // anything not resolved here is reported when its child's effective pom is built
+    return resolved;
+  }
+
+  /** Reads the {@code <parent>} coordinates of a pom without building a model. */
+  @Nullable
+  static ParentCoordinates readParent(File pom) {
+    ParentCoordinates parent = readDeclaredParent(pom);
+    return parent != null && parent.isLiteral() ? parent : null;
+  }
+
+  /**
+   * Reads the {@code <parent>} of a pom as it is written, which may be incomplete or need property
+   * interpolation. Returns null if the pom has no parent or can't be read.
+   */
+  @Nullable
+  static ParentCoordinates readDeclaredParent(File pom) {
+    try (InputStream in = Files.newInputStream(pom.toPath())) {
+      XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+      try {
+        int depth = 0;
+        boolean inParent = false;
+        String element = null;
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            depth++;
+            if (depth == 2 && "parent".equals(reader.getLocalName())) {
+              inParent = true;
+            } else if (inParent && depth == 3) {
+              element = reader.getLocalName();
+            }
+          } else if (event == XMLStreamConstants.CHARACTERS && inParent && element != null) {
+            String text = reader.getText().trim();
+            if ("groupId".equals(element)) {
+              groupId = append(groupId, text);
+            } else if ("artifactId".equals(element)) {
+              artifactId = append(artifactId, text);
+            } else if ("version".equals(element)) {
+              version = append(version, text);
+            }
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            if (inParent && depth == 2) {
+              return new ParentCoordinates(groupId, artifactId, version);
+            }
+            element = null;
+            depth--;
+          }
+        }
+        return null;
+      } finally {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException e) {
+      // let the model builder deal with unreadable poms
+      return null;
+    }
+  }
+
+  private static String append(@Nullable String current, String text) {
+    return current == null ? text : current + text;
+  }
+
+  static XMLInputFactory newXmlInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  static final class ParentCoordinates {
+    // as written in the pom, missing or interpolated unless isLiteral()
+    final String groupId;
+    final String artifactId;
+    final String version;
+
+    private ParentCoordinates(
+        @Nullable String groupId, @Nullable String artifactId, @Nullable String version) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
+    }
+
+    /** Returns null if the coordinates are incomplete or need property interpolation. */
+    @Nullable
+    static ParentCoordinates of(
+        @Nullable String groupId, @Nullable String artifactId, @Nullable String version) {
+      ParentCoordinates parent = new ParentCoordinates(groupId, artifactId, version);
+      return parent.isLiteral() ? parent : null;
+    }
+
+    /** Whether all coordinates are present and need no interpolation. */
+    boolean isLiteral() {
+      return isLiteral(groupId) && isLiteral(artifactId) && isLiteral(version);
+    }
+
+    private static boolean isLiteral(@Nullable String value) {
+      return value != null && !value.isEmpty() && !value.contains("${");
+    }
+
+    String gav() {
+      return ResolvedPomCache.key(groupId, artifactId, version);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * A shared service so every {@link PomResolver} in the build reuses resolved parent poms and
+ * previously extracted effective pom information. Effective pom cache entries that weren't used
+ * for 30 days are removed when the build finishes.
+ */
+public abstract class PomCacheService
+    implements BuildService<PomCacheService.Params>, AutoCloseable {
+  public static final String SERVICE_NAME = "spdxPomCacheService";
+
+  private static final Logger LOGGER = Logging.getLogger(PomCacheService.class);
+  // like gradle's own caches of downloaded files
+  private static final Duration MAX_UNUSED = Duration.ofDays(30);
+
+  public interface Params extends BuildServiceParameters {
+    DirectoryProperty getEffectivePomCacheDirectory();
+  }
+
+  private final ResolvedPomCache resolvedPoms = new ResolvedPomCache();
+  private final EffectivePomCache effectivePoms;
+
+  public PomCacheService() {
+    effectivePoms =
+        new EffectivePomCache(
+            getParameters().getEffectivePomCacheDirectory().get().getAsFile().toPath());
+  }
+
+  public ResolvedPomCache getResolvedPoms() {
+    return resolvedPoms;
+  }
+
+  public EffectivePomCache getEffectivePoms() {
+    return effectivePoms;
+  }
+
+  @Override
+  public void close() {
+    LOGGER.info(
+        "spdx pom cache: {} hits, {} misses", resolvedPoms.getHits(), resolvedPoms.getMisses());
+    LOGGER.info(
+        "spdx effective pom cache: {} hits, {} misses",
+        effectivePoms.getHits(),
+        effectivePoms.getMisses());
+    try {
+      int pruned = effectivePoms.prune(MAX_UNUSED);
+      if (pruned > 0) {
+        LOGGER.info("spdx effective pom cache: removed {} unused entries", pruned);
+      }
+    } catch (IOException e) {
+      LOGGER.info("Could not prune spdx effective pom cache", e);
+    }
+  }
+}
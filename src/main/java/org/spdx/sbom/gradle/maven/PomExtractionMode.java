@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+/** How license, url, organization and developer information is read from poms. */
+public enum PomExtractionMode {
+  /** Build the complete effective model with maven's model builder. */
+  MODEL_BUILDER("model-builder"),
+  /**
+   * Read only the required elements with a streaming parser, walking the parent chain as far as
+   * needed. Poms that need interpolation, profiles or inherited urls use the model builder.
+   */
+  STREAMING("streaming");
+
+  private final String id;
+
+  PomExtractionMode(String id) {
+    this.id = id;
+  }
+
+  /** A stable identifier, used to key cached extraction results. */
+  public String getId() {
+    return id;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Repository;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelSource2;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.apache.maven.model.resolution.UnresolvableModelException;
+import org.gradle.api.logging.Logger;
+
+/**
+ * A {@link ModelResolver} over pom files resolved while configuring the build. Effective poms are
+ * built in a task action, where gradle doesn't allow resolving dependencies, so parents have to be
+ * known up front. Imported boms only contribute dependency management, which nothing in {@link
+ * PomInfo} depends on, so boms that weren't resolved are replaced with empty poms. Parents that
+ * weren't resolved, like those with interpolated coordinates that can't be prefetched, fail the
+ * model building, unless {@code allowMissingParents} is set. They are then replaced with empty
+ * poms too, with a warning since whatever the child inherits from them is missing.
+ */
+class PomFileModelResolver implements ModelResolver {
+  private final Map<String, File> pomFiles;
+  private final Path stubDirectory;
+  private final Map<String, File> stubs = new ConcurrentHashMap<>();
+  private final boolean allowMissingParents;
+  private final Logger logger;
+
+  PomFileModelResolver(
+      Map<String, File> pomFiles, Path stubDirectory, boolean allowMissingParents, Logger logger) {
+    this.pomFiles = pomFiles;
+    this.stubDirectory = stubDirectory;
+    this.allowMissingParents = allowMissingParents;
+    this.logger = logger;
+  }
+
+  @Override
+  public ModelSource2 resolveModel(String groupId, String artifactId, String version)
+      throws UnresolvableModelException {
+    String gav = ResolvedPomCache.key(groupId, artifactId, version);
+    File pom = pomFiles.get(gav);
+    if (pom == null) {
+      throw new UnresolvableModelException(
+          "No pom file was resolved for " + gav, groupId, artifactId, version);
+    }
+    return new FileModelSource(pom);
+  }
+
+  @Override
+  public ModelSource2 resolveModel(Parent parent) throws UnresolvableModelException {
+    String gav =
+        ResolvedPomCache.key(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+    File pom = pomFiles.get(gav);
+    if (pom == null) {
+      if (!allowMissingParents) {
+        throw new UnresolvableModelException(
+            "No pom file was resolved for parent pom "
+                + gav
+                + ", set allowMissingParentPoms to build the effective pom without it",
+            parent.getGroupId(),
+            parent.getArtifactId(),
+            parent.getVersion());
+      }
+      pom =
+          stubs.computeIfAbsent(
+              gav,
+              k -> {
+                logger.warn(
+                    "No pom file was resolved for parent pom {}, licenses, developers and urls"
+                        + " inherited from it are missing from the sbom",
+                    k);
+                return writeStub(
+                    k, parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+              });
+    }
+    return new FileModelSource(pom);
+  }
+
+  @Override
+  public ModelSource2 resolveModel(Dependency dependency) {
+    String gav =
+        ResolvedPomCache.key(
+            dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+    File pom = pomFiles.get(gav);
+    if (pom == null) {
+      pom =
+          stubs.computeIfAbsent(
+              gav,
+              k ->
+                  writeStub(
+                      k,
+                      dependency.getGroupId(),
+                      dependency.getArtifactId(),
+                      dependency.getVersion()));
+    }
+    return new FileModelSource(pom);
+  }
+
+  private File writeStub(String gav, String groupId, String artifactId, String version) {
+    try {
+      Files.createDirectories(stubDirectory);
+      return Files.writeString(
+              // interpolated coordinates contain characters that don't belong in file names
+              stubDirectory.resolve(gav.replaceAll("[^A-Za-z0-9._-]", "_") + ".pom"),
+              "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                  + "  <modelVersion>4.0.0</modelVersion>\n"
+                  + "  <groupId>"
+                  + groupId
+                  + "</groupId>\n"
+                  + "  <artifactId>"
+                  + artifactId
+                  + "</artifactId>\n"
+                  + "  <version>"
+                  + version
+                  + "</version>\n"
+                  + "  <packaging>pom</packaging>\n"
+                  + "</project>\n")
+          .toFile();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write placeholder pom for " + gav, e);
+    }
+  }
+
+  @Override
+  public void addRepository(Repository repository) {
+    // do nothing, we don't use repositories from here
+  }
+
+  @Override
+  public void addRepository(Repository repository, boolean replace) {
+    // do nothing, we don't use repositories from here
+  }
+
+  @Override
+  public ModelResolver newCopy() {
+    return this;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Reads and writes the {@link PomInfo} of a set of components, keyed by display name. */
+public final class PomIndex {
+  private PomIndex() {}
+
+  public static void write(File file, Map<String, PomInfo> poms) throws IOException {
+    try (ObjectOutputStream out =
+        new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+      out.writeObject(new LinkedHashMap<>(poms));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public static Map<String, PomInfo> read(File file) throws IOException {
+    try (ObjectInputStream in =
+        new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      return (Map<String, PomInfo>) in.readObject();
+    } catch (ClassNotFoundException e) {
+      throw new IOException("Could not read pom index " + file, e);
+    }
+  }
+}
@@ -20,6 +20,7 @@ import java.util.Optional;
 import org.apache.maven.model.Organization;
 import org.immutables.serial.Serial;
 import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Lazy;
 
 @Immutable
 @Serial.Version(1)
@@ -32,6 +33,15 @@ public interface PomInfo {
 
   List<DeveloperInfo> getDevelopers();
 
+  /**
+   * The spdx package supplier, derived from the organization and developers when first asked for
+   * and shared by all the packages of this pom.
+   */
+  @Lazy
+  default String getPackageSupplier() {
+    return MavenPackageSupplierBuilder.buildPackageSupplier(this);
+  }
+
   @Immutable
   interface LicenseInfo {
     String getUrl();
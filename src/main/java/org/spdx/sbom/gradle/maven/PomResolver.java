@@ -16,57 +16,39 @@
 package org.spdx.sbom.gradle.maven;
 
 import java.io.File;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.building.DefaultModelBuilder;
-import org.apache.maven.model.building.DefaultModelBuilderFactory;
-import org.apache.maven.model.building.DefaultModelBuildingRequest;
-import org.apache.maven.model.building.ModelBuildingException;
-import org.apache.maven.model.building.ModelBuildingRequest;
-import org.gradle.api.GradleException;
-import org.gradle.api.artifacts.ConfigurationContainer;
 import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
 import org.gradle.api.artifacts.dsl.DependencyHandler;
-import org.gradle.api.artifacts.result.DependencyResult;
 import org.gradle.api.artifacts.result.ResolvedArtifactResult;
 import org.gradle.api.artifacts.result.ResolvedComponentResult;
-import org.gradle.api.artifacts.result.ResolvedDependencyResult;
 import org.gradle.api.logging.Logger;
 import org.gradle.maven.MavenModule;
 import org.gradle.maven.MavenPomArtifact;
+import org.spdx.sbom.gradle.utils.ComponentGraph;
 
-/** This needs to be run *before* while configuring the task, so use it in the Plugin. */
+/**
+ * This needs to be run *before* while configuring the task, so use it in the Plugin. It only
+ * resolves pom files, the effective poms are built from them by {@link EffectivePomBuilder}.
+ */
 public class PomResolver {
-  private final DefaultModelBuilderFactory defaultModelBuilderFactory;
   private final DependencyHandler dependencies;
-  private final GradleMavenResolver gradleMavenResolver;
-  private final Logger logger;
+  private final ParentPomPrefetcher parentPomPrefetcher;
 
   public static PomResolver newPomResolver(
-      DependencyHandler dependencies, ConfigurationContainer configurations, Logger logger) {
+      DependencyHandler dependencies, PomCacheService pomCacheService, Logger logger) {
     return new PomResolver(
         dependencies,
-        new GradleMavenResolver(dependencies, configurations),
-        new DefaultModelBuilderFactory(),
-        logger);
+        new ParentPomPrefetcher(dependencies, pomCacheService.getResolvedPoms(), logger));
   }
 
-  PomResolver(
-      DependencyHandler dependencies,
-      GradleMavenResolver gradleMavenResolver,
-      DefaultModelBuilderFactory defaultModelBuilderFactory,
-      Logger logger) {
+  PomResolver(DependencyHandler dependencies, ParentPomPrefetcher parentPomPrefetcher) {
     this.dependencies = dependencies;
-    this.defaultModelBuilderFactory = defaultModelBuilderFactory;
-    this.gradleMavenResolver = gradleMavenResolver;
-    this.logger = logger;
+    this.parentPomPrefetcher = parentPomPrefetcher;
   }
 
   /**
@@ -104,7 +86,8 @@ public class PomResolver {
   @SuppressWarnings("unchecked")
   public List<ResolvedArtifactResult> resolvePomArtifacts(
       List<ResolvedComponentResult> rootComponents) {
-    Set<ComponentIdentifier> componentIds = gatherSelectedDependencies(rootComponents);
+    Set<ComponentIdentifier> componentIds =
+        ComponentGraph.of(rootComponents).getSelectedDependencies();
 
     return dependencies
         .createArtifactResolutionQuery()
@@ -121,95 +104,28 @@ public class PomResolver {
         .collect(Collectors.toList());
   }
 
-  private Set<ComponentIdentifier> gatherSelectedDependencies(
-      List<ResolvedComponentResult> rootComponents) {
-    Set<ComponentIdentifier> componentIds = new HashSet<>();
-    for (var rootComponent : rootComponents) {
-      componentIds.addAll(
-          gatherSelectedDependencies(rootComponent, new HashSet<>(), new HashSet<>()));
-    }
-    return componentIds;
-  }
-
-  private Set<ComponentIdentifier> gatherSelectedDependencies(
-      ResolvedComponentResult component,
-      Set<ResolvedComponentResult> seenComponents,
-      Set<ComponentIdentifier> componentIds) {
-    if (seenComponents.add(component)) {
-      for (DependencyResult dep : component.getDependencies()) {
-        if (dep instanceof ResolvedDependencyResult) {
-          ResolvedDependencyResult resolvedDep = (ResolvedDependencyResult) dep;
-          componentIds.add(resolvedDep.getSelected().getId());
-          gatherSelectedDependencies(resolvedDep.getSelected(), seenComponents, componentIds);
-        }
-      }
-    }
-
-    return componentIds;
-  }
-
-  public Map<String, PomInfo> effectivePoms(List<ResolvedArtifactResult> resolvedPomArtifacts) {
-    Map<String, PomInfo> effectivePoms = new TreeMap<>();
+  /**
+   * Collects the pom files of {@code resolvedPomArtifacts} and of all their parents, which is
+   * everything needed to build their effective poms without resolving anything else.
+   */
+  public ResolvedPomFiles resolvePomFiles(List<ResolvedArtifactResult> resolvedPomArtifacts) {
+    Map<String, String> components = new TreeMap<>();
+    Map<String, File> pomFiles = new TreeMap<>();
     for (var ra : resolvedPomArtifacts) {
-      var pomFile = ra.getFile();
-      Model model = resolveEffectivePom(pomFile);
-      effectivePoms.put(
-          ra.getId().getComponentIdentifier().getDisplayName(),
-          ImmutablePomInfo.builder()
-              .addAllLicenses(
-                  model.getLicenses().stream()
-                      .map(
-                          l ->
-                              ImmutableLicenseInfo.builder()
-                                  .name(OptionalOfNonEmpty(l.getName()).orElse("NOASSERTION"))
-                                  .url(OptionalOfNonEmpty(l.getUrl()).orElse("NOASSERTION"))
-                                  .build())
-                      .collect(Collectors.toList()))
-              .homepage(extractHomepage(model, ra.getId().getComponentIdentifier()))
-              .organization(Optional.ofNullable(model.getOrganization()))
-              .addAllDevelopers(
-                  model.getDevelopers().stream()
-                      .map(
-                          d ->
-                              ImmutableDeveloperInfo.builder()
-                                  .name(OptionalOfNonEmpty(d.getName()))
-                                  .email(OptionalOfNonEmpty(d.getEmail()))
-                                  .organization(OptionalOfNonEmpty(d.getOrganization()))
-                                  .build())
-                      .collect(Collectors.toList()))
-              .build());
-    }
-    return new LinkedHashMap<>(effectivePoms);
-  }
-
-  private Optional<String> OptionalOfNonEmpty(String s) {
-    if (s == null) return Optional.empty();
-
-    String trimmed = s.trim();
-    if (trimmed.isEmpty()) {
-      return Optional.empty();
-    } else {
-      return Optional.of(s);
-    }
-  }
-
-  private Model resolveEffectivePom(File pomFile) {
-    ModelBuildingRequest request = new DefaultModelBuildingRequest();
-    request.setPomFile(pomFile);
-    request.setModelResolver(gradleMavenResolver);
-    request.getSystemProperties().putAll(PropertiesForPom.instance().get());
-    request.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
-
-    DefaultModelBuilder builder = defaultModelBuilderFactory.newInstance();
-    try {
-      return builder.build(request).getEffectiveModel();
-    } catch (ModelBuildingException e) {
-      throw new GradleException("Could not determine effective POM", e);
+      ComponentIdentifier id = ra.getId().getComponentIdentifier();
+      if (id instanceof ModuleComponentIdentifier) {
+        var moduleId = (ModuleComponentIdentifier) id;
+        String gav =
+            ResolvedPomCache.key(moduleId.getGroup(), moduleId.getModule(), moduleId.getVersion());
+        components.put(id.getDisplayName(), gav);
+        pomFiles.put(gav, ra.getFile());
+      }
     }
-  }
-
-  private String extractHomepage(Model mavenModel, ComponentIdentifier componentIdentifier) {
-    String url = mavenModel.getUrl();
-    return (url == null) ? "" : url;
+    // resolve parent chains level by level instead of one at a time
+    parentPomPrefetcher.prefetch(pomFiles.values()).forEach(pomFiles::putIfAbsent);
+    return ImmutableResolvedPomFiles.builder()
+        .putAllComponents(components)
+        .putAllPomFiles(pomFiles)
+        .build();
   }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the pom file resolved for a group:artifact:version. Parent poms are shared by many
+ * modules, and a released pom never changes, so each one only needs to be resolved once per build.
+ */
+public class ResolvedPomCache {
+  private final Map<String, File> poms = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public static String key(String groupId, String artifactId, String version) {
+    return groupId + ":" + artifactId + ":" + version;
+  }
+
+  /** Returns the remembered pom for {@code gav}, or null if it still needs to be resolved. */
+  @Nullable
+  public File getIfPresent(String gav) {
+    File pom = poms.get(gav);
+    if (pom != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    return pom;
+  }
+
+  public void put(String gav, File pom) {
+    poms.putIfAbsent(gav, pom);
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+}
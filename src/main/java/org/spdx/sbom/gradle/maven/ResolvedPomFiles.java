@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.util.Map;
+import org.immutables.serial.Serial;
+import org.immutables.value.Value.Immutable;
+
+/** The pom files needed to extract {@link PomInfo} for a set of components. */
+@Immutable
+@Serial.Version(1)
+public interface ResolvedPomFiles {
+  /** Component display names mapped to their group:artifact:version. */
+  Map<String, String> getComponents();
+
+  /** The poms of the components and all of their parents, keyed by group:artifact:version. */
+  Map<String, File> getPomFiles();
+}
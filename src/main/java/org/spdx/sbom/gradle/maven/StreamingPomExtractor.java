@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.maven.model.Developer;
+import org.apache.maven.model.License;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Organization;
+import org.spdx.sbom.gradle.maven.ParentPomPrefetcher.ParentCoordinates;
+
+/**
+ * Extracts licenses, url, organization and developers from a pom without building the effective
+ * model. Only those elements are read, and the parent chain is followed until every field is
+ * known, applying maven's inheritance rules: licenses and developers are inherited as a whole
+ * list, organization is inherited per field.
+ *
+ * <p>Returns null whenever the result could differ from the model builder's, the caller should
+ * then build the effective model instead. That is the case when a value needs property
+ * interpolation, a pom in the chain has profiles, the url would be inherited (maven appends the
+ * child's path to it), or a parent pom is not known.
+ */
+class StreamingPomExtractor {
+  private static final XMLInputFactory XML_INPUT_FACTORY =
+      ParentPomPrefetcher.newXmlInputFactory();
+
+  private final Map<String, File> pomFiles;
+
+  /** @param pomFiles pom files keyed by group:artifact:version, used to find parents */
+  StreamingPomExtractor(Map<String, File> pomFiles) {
+    this.pomFiles = pomFiles;
+  }
+
+  /** Returns a partial model with only the extracted fields set, or null if it can't be used. */
+  @Nullable
+  Model extract(File pomFile) {
+    Model model = new Model();
+    boolean hasLicenses = false;
+    boolean hasDevelopers = false;
+    Set<String> seen = new HashSet<>();
+
+    File current = pomFile;
+    boolean isLeaf = true;
+    while (true) {
+      RawPom pom = RawPom.read(current);
+      if (pom == null || pom.needsModelBuilder()) {
+        return null;
+      }
+      if (pom.url != null && model.getUrl() == null) {
+        if (!isLeaf) {
+          // inherited urls are extrapolated with the child's path
+          return null;
+        }
+        model.setUrl(pom.url);
+      }
+      if (!hasLicenses && !pom.licenses.isEmpty()) {
+        model.setLicenses(pom.licenses);
+        hasLicenses = true;
+      }
+      if (!hasDevelopers && !pom.developers.isEmpty()) {
+        model.setDevelopers(pom.developers);
+        hasDevelopers = true;
+      }
+      if (pom.organization != null) {
+        model.setOrganization(merge(model.getOrganization(), pom.organization));
+      }
+
+      boolean complete =
+          hasLicenses
+              && hasDevelopers
+              && model.getUrl() != null
+              && model.getOrganization() != null
+              && model.getOrganization().getName() != null
+              && model.getOrganization().getUrl() != null;
+      if (complete || !pom.hasParent) {
+        return model;
+      }
+      ParentCoordinates parent =
+          ParentCoordinates.of(pom.parentGroupId, pom.parentArtifactId, pom.parentVersion);
+      if (parent == null || !seen.add(parent.gav())) {
+        return null;
+      }
+      current = pomFiles.get(parent.gav());
+      if (current == null) {
+        return null;
+      }
+      isLeaf = false;
+    }
+  }
+
+  private static Organization merge(@Nullable Organization child, Organization parent) {
+    if (child == null) {
+      return parent;
+    }
+    if (child.getName() == null) {
+      child.setName(parent.getName());
+    }
+    if (child.getUrl() == null) {
+      child.setUrl(parent.getUrl());
+    }
+    return child;
+  }
+
+  /** The raw, uninherited and uninterpolated values of a single pom. */
+  private static final class RawPom {
+    private boolean isProject = false;
+    private boolean hasProfiles = false;
+    private boolean needsInterpolation = false;
+    private boolean hasParent = false;
+    @Nullable private String parentGroupId;
+    @Nullable private String parentArtifactId;
+    @Nullable private String parentVersion;
+    @Nullable private String url;
+    @Nullable private Organization organization;
+    private final List<License> licenses = new ArrayList<>();
+    private final List<Developer> developers = new ArrayList<>();
+
+    @Nullable
+    static RawPom read(File pomFile) {
+      RawPom pom = new RawPom();
+      try (InputStream in = Files.newInputStream(pomFile.toPath())) {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+          List<String> path = new ArrayList<>();
+          StringBuilder text = new StringBuilder();
+          while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+              path.add(reader.getLocalName());
+              text.setLength(0);
+              // nothing we read is nested deeper than project/developers/developer/name
+              if (path.size() <= 4) {
+                pom.start(String.join("/", path));
+              }
+            } else if (event == XMLStreamConstants.CHARACTERS
+                || event == XMLStreamConstants.CDATA) {
+              text.append(reader.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+              if (path.size() <= 4) {
+                pom.end(String.join("/", path), text.toString().trim());
+              }
+              path.remove(path.size() - 1);
+              text.setLength(0);
+            }
+          }
+        } finally {
+          reader.close();
+        }
+      } catch (IOException | XMLStreamException e) {
+        // let the model builder report unreadable poms
+        return null;
+      }
+      return pom;
+    }
+
+    boolean needsModelBuilder() {
+      return !isProject || hasProfiles || needsInterpolation;
+    }
+
+    private void start(String path) {
+      switch (path) {
+        case "project":
+          isProject = true;
+          break;
+        case "project/profiles":
+          hasProfiles = true;
+          break;
+        case "project/parent":
+          hasParent = true;
+          break;
+        case "project/organization":
+          organization = new Organization();
+          break;
+        case "project/licenses/license":
+          licenses.add(new License());
+          break;
+        case "project/developers/developer":
+          developers.add(new Developer());
+          break;
+        default:
+          break;
+      }
+    }
+
+    private void end(String path, String text) {
+      switch (path) {
+        case "project/parent/groupId":
+          parentGroupId = text;
+          break;
+        case "project/parent/artifactId":
+          parentArtifactId = text;
+          break;
+        case "project/parent/version":
+          parentVersion = text;
+          break;
+        case "project/url":
+          url = value(text);
+          break;
+        case "project/organization/name":
+          organization.setName(value(text));
+          break;
+        case "project/organization/url":
+          organization.setUrl(value(text));
+          break;
+        case "project/licenses/license/name":
+          last(licenses).setName(value(text));
+          break;
+        case "project/licenses/license/url":
+          last(licenses).setUrl(value(text));
+          break;
+        case "project/developers/developer/name":
+          last(developers).setName(value(text));
+          break;
+        case "project/developers/developer/email":
+          last(developers).setEmail(value(text));
+          break;
+        case "project/developers/developer/organization":
+          last(developers).setOrganization(value(text));
+          break;
+        default:
+          break;
+      }
+    }
+
+    private String value(String text) {
+      if (text.contains("${")) {
+        needsInterpolation = true;
+      }
+      return text;
+    }
+
+    private static <T> T last(List<T> list) {
+      return list.get(list.size() - 1);
+    }
+  }
+}
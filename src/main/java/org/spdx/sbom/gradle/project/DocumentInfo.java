@@ -15,6 +15,7 @@
  */
 package org.spdx.sbom.gradle.project;
 
+import java.time.Instant;
 import java.util.Optional;
 import org.gradle.api.GradleException;
 import org.immutables.serial.Serial;
@@ -22,7 +23,7 @@ import org.immutables.value.Value.Immutable;
 import org.spdx.sbom.gradle.SpdxSbomExtension;
 
 @Immutable
-@Serial.Version(1)
+@Serial.Version(2)
 public interface DocumentInfo {
   String getNamespace();
 
@@ -34,6 +35,8 @@ public interface DocumentInfo {
 
   Optional<String> getSupplier();
 
+  Optional<Instant> getCreated();
+
   @Immutable
   @Serial.Version(1)
   interface UberPackageInfo {
@@ -51,7 +54,13 @@ public interface DocumentInfo {
             .name(document.getName().get())
             .namespace(document.getNamespace().get())
             .creator(Optional.ofNullable(document.getCreator().getOrNull()))
-            .supplier(Optional.ofNullable(document.getPackageSupplier().getOrNull()));
+            .supplier(Optional.ofNullable(document.getPackageSupplier().getOrNull()))
+            .created(Optional.ofNullable(document.getCreated().getOrNull()));
+    if (target.getReproducible().get() && !document.getCreated().isPresent()) {
+      throw new GradleException(
+          "Must configure document.created or set SOURCE_DATE_EPOCH for reproducible sbom target:"
+              + target.getName());
+    }
     var uberPackage = target.getDocument().getUberPackage();
     if (!uberPackage.getName().isPresent()
         && !uberPackage.getSupplier().isPresent()
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+
+/**
+ * The union of the dependency graphs of several configurations, indexed by component id. A
+ * component that appears in several configurations is a single node whose dependencies are the
+ * union of its dependencies in each of them, so walking the merged graph visits every component
+ * once however many configurations overlap.
+ */
+public final class ComponentGraph {
+  private final Set<ComponentIdentifier> roots = new LinkedHashSet<>();
+  // the first result seen for each component
+  private final Map<ComponentIdentifier, ResolvedComponentResult> components =
+      new LinkedHashMap<>();
+  private final Map<ComponentIdentifier, Set<ComponentIdentifier>> dependencies = new HashMap<>();
+
+  private ComponentGraph() {}
+
+  /** Merges the graphs of {@code roots}, usually the root components of each configuration. */
+  public static ComponentGraph of(Iterable<? extends ResolvedComponentResult> roots) {
+    ComponentGraph graph = new ComponentGraph();
+    for (ResolvedComponentResult root : roots) {
+      graph.roots.add(root.getId());
+      // each configuration is indexed on its own, a component can have different dependencies
+      // in each of them
+      ComponentGraphWalker.<Void, RuntimeException>walk(
+          List.of(root),
+          null,
+          (component, unused) -> {
+            graph.index(component);
+            return null;
+          });
+    }
+    return graph;
+  }
+
+  private void index(ResolvedComponentResult component) {
+    components.putIfAbsent(component.getId(), component);
+    Set<ComponentIdentifier> componentDependencies =
+        dependencies.computeIfAbsent(component.getId(), id -> new LinkedHashSet<>());
+    for (DependencyResult dependency : component.getDependencies()) {
+      if (dependency instanceof ResolvedDependencyResult) {
+        componentDependencies.add(((ResolvedDependencyResult) dependency).getSelected().getId());
+      }
+    }
+  }
+
+  public Set<ComponentIdentifier> getRoots() {
+    return Collections.unmodifiableSet(roots);
+  }
+
+  /** The number of distinct components in the graph. */
+  public int size() {
+    return components.size();
+  }
+
+  /** Every component that some other component depends on. */
+  public Set<ComponentIdentifier> getSelectedDependencies() {
+    Set<ComponentIdentifier> selected = new HashSet<>();
+    dependencies.values().forEach(selected::addAll);
+    return selected;
+  }
+
+  /**
+   * Walks the merged graph depth first from the roots, visiting every component once in the same
+   * order as {@link ComponentGraphWalker}.
+   */
+  public <T, E extends Exception> void walk(
+      @Nullable T rootContext, ComponentGraphWalker.Visitor<T, E> visitor) throws E {
+    Set<ComponentIdentifier> visited = new HashSet<>();
+    Deque<Step<T>> stack = new ArrayDeque<>();
+    for (ComponentIdentifier root : roots) {
+      stack.push(new Step<>(root, rootContext));
+      while (!stack.isEmpty()) {
+        Step<T> step = stack.pop();
+        if (!visited.add(step.id)) {
+          continue;
+        }
+        T context = visitor.visit(components.get(step.id), step.context);
+        // pushed in reverse so they are popped in declaration order
+        List<ComponentIdentifier> componentDependencies =
+            new ArrayList<>(dependencies.get(step.id));
+        for (int i = componentDependencies.size() - 1; i >= 0; i--) {
+          stack.push(new Step<>(componentDependencies.get(i), context));
+        }
+      }
+    }
+  }
+
+  private static final class Step<T> {
+    private final ComponentIdentifier id;
+    @Nullable private final T context;
+
+    private Step(ComponentIdentifier id, @Nullable T context) {
+      this.id = id;
+      this.context = context;
+    }
+  }
+}
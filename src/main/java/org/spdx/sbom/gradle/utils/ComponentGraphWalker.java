@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+
+/**
+ * Depth first walk over resolved dependency graphs with an explicit stack, so that deep graphs
+ * can't overflow the call stack. Components are visited once each, in the same pre-order as a
+ * recursive walk over dependencies in declaration order.
+ */
+public final class ComponentGraphWalker {
+
+  /** Called once for every component reachable from the roots. */
+  public interface Visitor<T, E extends Exception> {
+    /**
+     * Visits {@code component}, reached with the context its dependent returned, and returns the
+     * context for its own dependencies.
+     */
+    @Nullable
+    T visit(ResolvedComponentResult component, @Nullable T context) throws E;
+  }
+
+  private ComponentGraphWalker() {}
+
+  /** Walks all {@code roots}, a component reachable from several roots is only visited once. */
+  public static <T, E extends Exception> void walk(
+      Iterable<? extends ResolvedComponentResult> roots,
+      @Nullable T rootContext,
+      Visitor<T, E> visitor)
+      throws E {
+    Set<ComponentIdentifier> visited = new HashSet<>();
+    Deque<Step<T>> stack = new ArrayDeque<>();
+    List<ResolvedComponentResult> dependencies = new ArrayList<>();
+    for (ResolvedComponentResult root : roots) {
+      stack.push(new Step<>(root, rootContext));
+      while (!stack.isEmpty()) {
+        Step<T> step = stack.pop();
+        if (!visited.add(step.component.getId())) {
+          continue;
+        }
+        T context = visitor.visit(step.component, step.context);
+
+        dependencies.clear();
+        for (DependencyResult dependency : step.component.getDependencies()) {
+          if (dependency instanceof ResolvedDependencyResult) {
+            dependencies.add(((ResolvedDependencyResult) dependency).getSelected());
+          }
+        }
+        // pushed in reverse so they are popped in declaration order
+        for (int i = dependencies.size() - 1; i >= 0; i--) {
+          stack.push(new Step<>(dependencies.get(i), context));
+        }
+      }
+    }
+  }
+
+  private static final class Step<T> {
+    private final ResolvedComponentResult component;
+    @Nullable private final T context;
+
+    private Step(ResolvedComponentResult component, @Nullable T context) {
+      this.component = component;
+      this.context = context;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.immutables.serial.Serial;
+import org.immutables.value.Value.Immutable;
+
+/**
+ * The packages of a component in a previous document, with what they were derived from that isn't
+ * an input of the whole document, see {@link PackageIndex}.
+ */
+@Immutable
+@Serial.Version(1)
+interface IndexedComponent {
+  /** The files of the component, hashed for its packages. */
+  Set<Artifact> getArtifacts();
+
+  /** The repository the component was resolved from, absent if it isn't a known repository. */
+  Optional<String> getRepository();
+
+  /** The package containing those of the artifacts if there is one, followed by those packages. */
+  List<IndexedPackage> getPackages();
+
+  /** The supplier of the packages, derived from the pom of the component. */
+  default String getSupplier() {
+    return getPackages().get(0).getSupplier().orElse("");
+  }
+
+  /** A file identified like in the checksum cache, by path, length and last modified time. */
+  @Immutable
+  @Serial.Version(1)
+  interface Artifact {
+    String getPath();
+
+    long getLength();
+
+    long getLastModified();
+
+    static Artifact of(File file) throws IOException {
+      BasicFileAttributes attributes =
+          Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+      return ImmutableArtifact.builder()
+          .path(file.getAbsolutePath())
+          .length(attributes.size())
+          .lastModified(attributes.lastModifiedTime().toMillis())
+          .build();
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.Map;
+import java.util.Optional;
+import org.immutables.serial.Serial;
+import org.immutables.value.Value.Immutable;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+
+/**
+ * A maven package of a previous document, stored in its {@link PackageIndex}. Everything that
+ * belongs to that document, the spdx id and the license objects, is left out and filled in again
+ * when the package is reused.
+ */
+@Immutable
+@Serial.Version(1)
+interface IndexedPackage {
+  String getName();
+
+  String getDownloadLocation();
+
+  Optional<String> getVersionInfo();
+
+  Optional<String> getSupplier();
+
+  Map<ChecksumAlgorithm, String> getChecksums();
+
+  Optional<String> getPurl();
+
+  static IndexedPackage of(PackageFields pkg) {
+    return ImmutableIndexedPackage.builder()
+        .name(pkg.getName())
+        .downloadLocation(pkg.getDownloadLocation())
+        .versionInfo(pkg.getVersionInfo())
+        .supplier(pkg.getSupplier())
+        .checksums(pkg.getChecksums())
+        .purl(pkg.getPurl())
+        .build();
+  }
+
+  default PackageFields toPackage(String id, AnyLicenseInfo licenseDeclared) {
+    return ImmutablePackageFields.builder()
+        .id(id)
+        .name(getName())
+        .licenseDeclared(licenseDeclared)
+        .downloadLocation(getDownloadLocation())
+        .versionInfo(getVersionInfo())
+        .supplier(getSupplier())
+        .checksums(getChecksums())
+        .purl(getPurl())
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maps the license urls of a pom to a single spdx license expression, shared by all the documents
+ * of a build through {@link SpdxKnownLicensesService}. Only lists of known licenses have an
+ * expression, unknown licenses become extracted licenses with ids that are specific to a document.
+ */
+public final class LicenseExpressionCache {
+  private final ConcurrentHashMap<List<String>, Optional<String>> expressions =
+      new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * The expression for a list of normalized license urls, or empty if any of them is not a known
+   * license.
+   */
+  public Optional<String> expression(
+      List<String> normalizedUrls, SpdxKnownLicenses knownLicenses) {
+    Optional<String> expression = expressions.get(normalizedUrls);
+    if (expression != null) {
+      hits.incrementAndGet();
+      return expression;
+    }
+    misses.incrementAndGet();
+    return expressions.computeIfAbsent(
+        List.copyOf(normalizedUrls), urls -> resolve(urls, knownLicenses));
+  }
+
+  private static Optional<String> resolve(List<String> urls, SpdxKnownLicenses knownLicenses) {
+    // several urls often point at the same license, ids from the license list are never compound
+    Set<String> ids = new LinkedHashSet<>();
+    for (String url : urls) {
+      String id = knownLicenses.getIdForNormalizedUrl(url);
+      if (id == null) {
+        return Optional.empty();
+      }
+      ids.add(id);
+    }
+    return Optional.of(String.join(" AND ", ids));
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nullable;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+
+/**
+ * A copy of the remote spdx license list kept in the gradle user home. The copy is used as is while
+ * it is younger than the ttl, after that it is revalidated with a conditional request. When the
+ * remote is slow or unreachable the copy is used however old it is.
+ */
+public final class LicenseListCache {
+  private static final Logger LOGGER = Logging.getLogger(LicenseListCache.class);
+  private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+  private static final int READ_TIMEOUT_MILLIS = 10_000;
+
+  private final URI remote;
+  private final Path cacheFile;
+  private final Path etagFile;
+  private final Duration ttl;
+  private final int connectTimeoutMillis;
+  private final int readTimeoutMillis;
+
+  public LicenseListCache(URI remote, Path cacheDirectory, Duration ttl) {
+    this(remote, cacheDirectory, ttl, CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS);
+  }
+
+  LicenseListCache(
+      URI remote,
+      Path cacheDirectory,
+      Duration ttl,
+      int connectTimeoutMillis,
+      int readTimeoutMillis) {
+    this.remote = remote;
+    this.cacheFile = cacheDirectory.resolve("licenses.json");
+    this.etagFile = cacheDirectory.resolve("licenses.json.etag");
+    this.ttl = ttl;
+    this.connectTimeoutMillis = connectTimeoutMillis;
+    this.readTimeoutMillis = readTimeoutMillis;
+  }
+
+  /** The license list, or null when it could neither be downloaded nor read from the cache. */
+  @Nullable
+  public byte[] load() {
+    boolean cached = Files.isRegularFile(cacheFile);
+    try {
+      if (cached && isFresh()) {
+        return Files.readAllBytes(cacheFile);
+      }
+      return revalidate(cached);
+    } catch (IOException e) {
+      LOGGER.info("Could not download the spdx license list from {}", remote, e);
+    }
+    if (cached) {
+      try {
+        return Files.readAllBytes(cacheFile);
+      } catch (IOException e) {
+        LOGGER.info("Could not read the cached spdx license list", e);
+      }
+    }
+    return null;
+  }
+
+  /** Where the copy is kept, the file doesn't exist until the list was first downloaded. */
+  public Path getCacheFile() {
+    return cacheFile;
+  }
+
+  /** Drops the cached copy, for example when it can't be parsed. */
+  public void invalidate() {
+    try {
+      Files.deleteIfExists(cacheFile);
+      Files.deleteIfExists(etagFile);
+    } catch (IOException e) {
+      LOGGER.info("Could not delete the cached spdx license list", e);
+    }
+  }
+
+  private boolean isFresh() throws IOException {
+    Instant validated = Files.getLastModifiedTime(cacheFile).toInstant();
+    return validated.plus(ttl).isAfter(Instant.now());
+  }
+
+  private byte[] revalidate(boolean cached) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) remote.toURL().openConnection();
+    connection.setConnectTimeout(connectTimeoutMillis);
+    connection.setReadTimeout(readTimeoutMillis);
+    if (cached) {
+      connection.setIfModifiedSince(Files.getLastModifiedTime(cacheFile).toMillis());
+      if (Files.isRegularFile(etagFile)) {
+        connection.setRequestProperty("If-None-Match", Files.readString(etagFile).trim());
+      }
+    }
+    try {
+      int status = connection.getResponseCode();
+      if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached) {
+        // the modification time records when the copy was last known to be current
+        Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now()));
+        return Files.readAllBytes(cacheFile);
+      }
+      if (status != HttpURLConnection.HTTP_OK) {
+        throw new IOException("Unexpected response " + status + " from " + remote);
+      }
+      byte[] licenses;
+      try (InputStream in = connection.getInputStream()) {
+        licenses = in.readAllBytes();
+      }
+      store(licenses, connection.getHeaderField("ETag"));
+      return licenses;
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  /**
+   * Written to a temporary file first and moved into place so concurrent builds never observe a
+   * partially written list.
+   */
+  private void store(byte[] licenses, @Nullable String etag) throws IOException {
+    Files.createDirectories(cacheFile.getParent());
+    Path tmp =
+        Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tmp, licenses);
+      Files.move(
+          tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    if (etag != null) {
+      Files.writeString(etagFile, etag);
+    } else {
+      Files.deleteIfExists(etagFile);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.Map;
+import java.util.Optional;
+import org.immutables.value.Value.Immutable;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+
+/**
+ * A package created by {@link SpdxDocumentBuilder}, which either becomes an {@code SpdxPackage} in
+ * the model store or is written straight to the output by {@link SpdxJsonWriter}. Packages are
+ * never analyzed and their concluded license and copyright are always {@code NOASSERTION}.
+ */
+@Immutable
+interface PackageFields {
+  String getId();
+
+  String getName();
+
+  AnyLicenseInfo getLicenseDeclared();
+
+  String getDownloadLocation();
+
+  Optional<String> getVersionInfo();
+
+  Optional<String> getSupplier();
+
+  Optional<String> getDescription();
+
+  Optional<String> getSourceInfo();
+
+  /** Hex encoded digests of the package's file, in the order they are written. */
+  Map<ChecksumAlgorithm, String> getChecksums();
+
+  Optional<String> getPurl();
+}
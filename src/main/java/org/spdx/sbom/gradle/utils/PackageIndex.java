@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+
+/**
+ * The maven packages of a generated document, keyed by the display name of their component. An
+ * incremental run reuses the packages of the components whose artifacts didn't change since the
+ * previous run instead of hashing the artifacts and deriving the packages again, see {@link
+ * SpdxDocumentBuilder#reuse}. Like the checksum cache, an artifact is unchanged if its path, length
+ * and last modified time are, so the index stays valid whatever else changed between the runs.
+ */
+public final class PackageIndex {
+  private final Map<String, IndexedComponent> components;
+
+  private PackageIndex(Map<String, IndexedComponent> components) {
+    this.components = components;
+  }
+
+  public static PackageIndex empty() {
+    return new PackageIndex(new LinkedHashMap<>());
+  }
+
+  /** The index of the previous run, empty if there is none or it can't be read. */
+  @SuppressWarnings("unchecked")
+  public static PackageIndex read(File file) {
+    if (!file.isFile()) {
+      return empty();
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      return new PackageIndex((Map<String, IndexedComponent>) in.readObject());
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      // written by an incompatible plugin version, nothing is reused
+      return empty();
+    }
+  }
+
+  public void write(File file) throws IOException {
+    Files.createDirectories(file.toPath().getParent());
+    try (ObjectOutputStream out =
+        new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+      out.writeObject(new LinkedHashMap<>(components));
+    }
+  }
+
+  /**
+   * The components of this index that still resolve to the same, unchanged artifacts in {@code
+   * resolvedArtifacts}.
+   */
+  public PackageIndex unchanged(Map<ComponentArtifactIdentifier, File> resolvedArtifacts) {
+    Map<String, Set<File>> files = new HashMap<>();
+    resolvedArtifacts.forEach(
+        (id, file) ->
+            files
+                .computeIfAbsent(
+                    id.getComponentIdentifier().getDisplayName(), c -> new HashSet<>())
+                .add(file));
+    PackageIndex unchanged = empty();
+    for (var component : components.entrySet()) {
+      Set<File> componentFiles = files.get(component.getKey());
+      if (componentFiles == null) {
+        continue;
+      }
+      Set<IndexedComponent.Artifact> artifacts = artifacts(componentFiles);
+      if (!artifacts.isEmpty() && artifacts.equals(component.getValue().getArtifacts())) {
+        unchanged.components.put(component.getKey(), component.getValue());
+      }
+    }
+    return unchanged;
+  }
+
+  /** The artifacts for {@code files}, empty if one of them can't be read anymore. */
+  static Set<IndexedComponent.Artifact> artifacts(Set<File> files) {
+    Set<IndexedComponent.Artifact> artifacts = new HashSet<>();
+    try {
+      for (File file : files) {
+        artifacts.add(IndexedComponent.Artifact.of(file));
+      }
+    } catch (IOException e) {
+      return Set.of();
+    }
+    return artifacts;
+  }
+
+  @Nullable
+  IndexedComponent get(String component) {
+    return components.get(component);
+  }
+
+  public boolean contains(String component) {
+    return components.containsKey(component);
+  }
+
+  void put(String component, IndexedComponent packages) {
+    components.put(component, packages);
+  }
+
+  public int size() {
+    return components.size();
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.util.List;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+
+/** Receives the packages and relationships of a document while {@link SpdxDocumentBuilder} runs. */
+interface PackageSink {
+  void add(PackageFields pkg) throws InvalidSPDXAnalysisException, IOException;
+
+  /** Relates two packages that were already added. */
+  void relationship(String fromId, RelationshipType type, String toId)
+      throws InvalidSPDXAnalysisException, IOException;
+
+  /** Sets the packages the document describes, called once after all packages were added. */
+  void describes(List<String> ids) throws InvalidSPDXAnalysisException, IOException;
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.spdx.jacksonstore.MultiFormatStore.Format;
+
+/** The file format sboms are written in. */
+public enum SbomFormat {
+  /** Indented json, the default. */
+  JSON_PRETTY(".spdx.json", Format.JSON_PRETTY, false),
+  /** Json without any whitespace. */
+  JSON(".spdx.json", Format.JSON, false),
+  /** Gzip compressed json without any whitespace. */
+  JSON_GZIP(".spdx.json.gz", Format.JSON, true),
+  YAML(".spdx.yaml", Format.YAML, false),
+  XML(".spdx.xml", Format.XML, false);
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final String extension;
+  private final Format storeFormat;
+  private final boolean gzip;
+
+  SbomFormat(String extension, Format storeFormat, boolean gzip) {
+    this.extension = extension;
+    this.storeFormat = storeFormat;
+    this.gzip = gzip;
+  }
+
+  /** The conventional file extension, including the leading dot. */
+  public String getExtension() {
+    return extension;
+  }
+
+  /** The format {@code MultiFormatStore} serializes to before any compression. */
+  public Format getStoreFormat() {
+    return storeFormat;
+  }
+
+  public boolean isJson() {
+    return storeFormat == Format.JSON || storeFormat == Format.JSON_PRETTY;
+  }
+
+  public boolean isPretty() {
+    return storeFormat == Format.JSON_PRETTY;
+  }
+
+  /** Wraps {@code out} with this format's compression, if any. */
+  public OutputStream wrap(OutputStream out) throws IOException {
+    return gzip ? new GZIPOutputStream(out, GZIP_BUFFER_SIZE) : out;
+  }
+}
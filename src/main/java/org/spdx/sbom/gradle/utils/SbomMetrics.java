@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Wall time of the phases of generating an sbom and counters of the work done, logged at info
+ * level and written as a json report so they can be compared between builds. Phases are in
+ * milliseconds and may overlap, license parsing for example happens while building the document.
+ */
+public final class SbomMetrics {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final String name;
+  private final Map<String, Long> phases = new LinkedHashMap<>();
+  private final Map<String, Long> counters = new LinkedHashMap<>();
+  private final Map<String, SbomMetrics> inputs = new LinkedHashMap<>();
+
+  public SbomMetrics(String name) {
+    this.name = name;
+  }
+
+  /** Records the time since {@code startNanos}, from {@link System#nanoTime()}, for a phase. */
+  public void phase(String phase, long startNanos) {
+    phaseMillis(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  /** Records the time of a phase, times of a phase that runs more than once are added up. */
+  public void phaseMillis(String phase, long millis) {
+    phases.merge(phase, millis, Long::sum);
+  }
+
+  public void count(String counter, long value) {
+    counters.merge(counter, value, Long::sum);
+  }
+
+  /** Adds the phase times and counters of {@code other} to these. */
+  public void add(SbomMetrics other) {
+    other.phases.forEach(this::phaseMillis);
+    other.counters.forEach(this::count);
+  }
+
+  /** Includes the metrics of a task that produced an input, like the pom index. */
+  public void input(String input, SbomMetrics metrics) {
+    inputs.put(input, metrics);
+  }
+
+  public Map<String, Long> getPhases() {
+    return phases;
+  }
+
+  public Map<String, Long> getCounters() {
+    return counters;
+  }
+
+  public void log(Logger logger) {
+    phases.forEach(
+        (phase, millis) -> logger.info("spdx operation '{} > {}' took {} ms", name, phase, millis));
+    counters.forEach(
+        (counter, value) -> logger.info("spdx counter '{} > {}' = {}", name, counter, value));
+  }
+
+  public void write(File report) throws IOException {
+    MAPPER.writerWithDefaultPrettyPrinter().writeValue(report, toMap());
+  }
+
+  /** Reads a report written by {@link #write}, null if there is none or it can't be read. */
+  @Nullable
+  public static SbomMetrics read(File report) {
+    if (!report.isFile()) {
+      return null;
+    }
+    try {
+      Map<String, Object> values =
+          MAPPER.readValue(report, new TypeReference<Map<String, Object>>() {});
+      return fromMap(values);
+    } catch (IOException | RuntimeException e) {
+      // a report from another plugin version, it's only informational
+      return null;
+    }
+  }
+
+  private Map<String, Object> toMap() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("name", name);
+    values.put("phases", phases);
+    values.put("counters", counters);
+    Map<String, Object> inputValues = new LinkedHashMap<>();
+    inputs.forEach((input, metrics) -> inputValues.put(input, metrics.toMap()));
+    values.put("inputs", inputValues);
+    return values;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static SbomMetrics fromMap(Map<String, Object> values) {
+    SbomMetrics metrics = new SbomMetrics((String) values.get("name"));
+    ((Map<String, Number>) values.get("phases"))
+        .forEach((phase, millis) -> metrics.phaseMillis(phase, millis.longValue()));
+    ((Map<String, Number>) values.get("counters"))
+        .forEach((counter, value) -> metrics.count(counter, value.longValue()));
+    ((Map<String, Map<String, Object>>) values.get("inputs"))
+        .forEach((input, inputValues) -> metrics.input(input, fromMap(inputValues)));
+    return metrics;
+  }
+}
@@ -16,16 +16,16 @@
 package org.spdx.sbom.gradle.utils;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.hash.Hashing;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.gradle.api.artifacts.ModuleVersionIdentifier;
@@ -43,7 +44,6 @@ import org.gradle.api.artifacts.component.ComponentIdentifier;
 import org.gradle.api.artifacts.component.ModuleComponentIdentifier;
 import org.gradle.api.artifacts.component.ProjectComponentIdentifier;
 import org.gradle.api.artifacts.result.ResolvedComponentResult;
-import org.gradle.api.artifacts.result.ResolvedDependencyResult;
 import org.gradle.api.internal.artifacts.result.DefaultResolvedComponentResult;
 import org.gradle.api.internal.artifacts.result.ResolvedComponentResultInternal;
 import org.gradle.api.logging.Logger;
@@ -51,6 +51,7 @@ import org.gradle.util.GradleVersion;
 import org.jetbrains.annotations.NotNull;
 import org.spdx.core.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.Checksum;
 import org.spdx.library.model.v2.ReferenceType;
 import org.spdx.library.model.v2.SpdxConstantsCompatV2;
 import org.spdx.library.model.v2.SpdxDocument;
@@ -63,8 +64,9 @@ import org.spdx.library.model.v2.enumerations.ReferenceCategory;
 import org.spdx.library.model.v2.enumerations.RelationshipType;
 import org.spdx.library.model.v2.license.AnyLicenseInfo;
 import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.sbom.gradle.checksums.ChecksumCalculator;
+import org.spdx.sbom.gradle.checksums.FileChecksums;
 import org.spdx.sbom.gradle.extensions.SpdxSbomTaskExtension;
-import org.spdx.sbom.gradle.maven.MavenPackageSupplierBuilder;
 import org.spdx.sbom.gradle.maven.PomInfo;
 import org.spdx.sbom.gradle.project.DocumentInfo;
 import org.spdx.sbom.gradle.project.ProjectInfo;
@@ -75,12 +77,12 @@ import org.spdx.storage.IModelStore.IdType;
 
 public class SpdxDocumentBuilder {
   private final SpdxDocument doc;
-  private final SpdxPackage rootPackage;
+  @Nullable private final PackageFields rootPackage;
   private final RootPackageIdentifier rootPackageId;
   private final SpdxLicenses licenses;
   private final ProjectInfo thisProject;
   private final Map<String, ProjectInfo> allProjectInfo;
-  private final HashMap<ComponentIdentifier, SpdxPackage> spdxPackages = new HashMap<>();
+  private final HashMap<ComponentIdentifier, String> packageIds = new HashMap<>();
 
   private final HashMap<ComponentIdentifier, LinkedHashSet<ComponentIdentifier>> tree =
       new LinkedHashMap<>();
@@ -95,6 +97,17 @@ public class SpdxDocumentBuilder {
 
   private final boolean ignoreNonMavenDependencies;
 
+  private final ChecksumCalculator checksumCalculator;
+  private final int checksumParallelism;
+  private final StructuralVerifier verifier = new StructuralVerifier();
+  @Nullable private Map<File, FileChecksums> checksums;
+  // set for incremental documents, whose packages are indexed for the next run
+  @Nullable private PackageIndex reusablePackages;
+  private final PackageIndex packageIndex = PackageIndex.empty();
+  private int reusedComponents = 0;
+  private PackageSink sink = new StorePackageSink();
+  @Nullable private SpdxJsonWriter jsonWriter;
+
   private static class RootPackageIdentifier implements ComponentIdentifier {
     @Override
     public @NotNull String getDisplayName() {
@@ -113,7 +126,10 @@ public class SpdxDocumentBuilder {
       @Nullable SpdxSbomTaskExtension spdxSbomTaskExtension,
       DocumentInfo documentInfo,
       ScmInfo scmInfo,
-      SpdxKnownLicenses knownLicenses,
+      Supplier<SpdxKnownLicenses> knownLicenses,
+      LicenseExpressionCache licenseExpressions,
+      ChecksumCalculator checksumCalculator,
+      int checksumParallelism,
       boolean ignoreNonMavenDependencies)
       throws InvalidSPDXAnalysisException {
     this.documentInfo = documentInfo;
@@ -121,6 +137,7 @@ public class SpdxDocumentBuilder {
         SpdxModelFactoryCompatV2.createSpdxDocumentV2(
             modelStore, documentInfo.getNamespace(), new ModelCopyManager());
     doc.setName(documentInfo.getName());
+    verifier.element(doc.getId());
 
     ImmutableList.Builder<String> creators = ImmutableList.builder();
     creators.add("Tool: spdx-gradle-plugin");
@@ -129,33 +146,33 @@ public class SpdxDocumentBuilder {
     doc.setCreationInfo(
         doc.createCreationInfo(
             creators.build(),
-            ZonedDateTime.now(ZoneOffset.UTC)
+            documentInfo
+                .getCreated()
+                .orElseGet(Instant::now)
+                .atZone(ZoneOffset.UTC)
                 .truncatedTo(ChronoUnit.SECONDS)
                 .format(DateTimeFormatter.ISO_DATE_TIME)));
     if (documentInfo.getUberPackageInfo().isPresent()) {
       var uberPackageInfo = documentInfo.getUberPackageInfo().get();
       this.rootPackage =
-          doc.createPackage(
-                  doc.getModelStore().getNextId(IdType.SpdxId),
-                  uberPackageInfo.getName(),
-                  new SpdxNoAssertionLicense(),
-                  "NOASSERTION",
-                  new SpdxNoAssertionLicense())
-              .setSupplier(uberPackageInfo.getSupplier())
-              .setVersionInfo(uberPackageInfo.getVersion())
-              .setDownloadLocation("NOASSERTION")
-              .setFilesAnalyzed(false)
+          ImmutablePackageFields.builder()
+              .id(doc.getModelStore().getNextId(IdType.SpdxId))
+              .name(uberPackageInfo.getName())
+              .licenseDeclared(new SpdxNoAssertionLicense())
+              .supplier(uberPackageInfo.getSupplier())
+              .versionInfo(uberPackageInfo.getVersion())
+              .downloadLocation("NOASSERTION")
               .build();
+      verifier.element(rootPackage.getId());
       this.rootPackageId = new RootPackageIdentifier();
-      doc.setDocumentDescribes(Collections.singletonList(this.rootPackage));
-      this.spdxPackages.put(rootPackageId, rootPackage);
+      this.packageIds.put(rootPackageId, rootPackage.getId());
       this.tree.putIfAbsent(rootPackageId, new LinkedHashSet<>());
     } else {
       this.rootPackage = null;
       this.rootPackageId = null;
     }
 
-    this.licenses = SpdxLicenses.newSpdxLicenes(logger, doc, knownLicenses);
+    this.licenses = SpdxLicenses.newSpdxLicenes(logger, doc, knownLicenses, licenseExpressions);
 
     this.logger = logger;
     this.scmInfo = scmInfo;
@@ -174,67 +191,119 @@ public class SpdxDocumentBuilder {
     this.mavenArtifactRepositories = mavenArtifactRepositories;
     this.poms = poms;
 
+    this.checksumCalculator = checksumCalculator;
+    this.checksumParallelism = checksumParallelism;
     this.ignoreNonMavenDependencies = ignoreNonMavenDependencies;
 
     this.taskExtension = spdxSbomTaskExtension;
   }
 
-  public void add(ResolvedComponentResult root) throws InvalidSPDXAnalysisException, IOException {
-    add(rootPackageId, root, new HashSet<>());
-    List<SpdxItem> rootPackages =
-        rootPackage != null
-            ? List.of(rootPackage)
-            : spdxPackages.containsKey(root.getId())
-                ? List.of(spdxPackages.get(root.getId()))
-                : List.of();
-    doc.setDocumentDescribes(rootPackages);
+  /**
+   * Reuses checksums computed for several documents at once instead of hashing this document's
+   * artifacts in {@link #add}, artifacts missing from {@code checksums} are hashed on demand.
+   */
+  public void useChecksums(Map<File, FileChecksums> checksums) {
+    this.checksums = checksums;
+  }
 
-    for (var pkg : tree.keySet()) {
-      for (var child : tree.get(pkg)) {
-        var rel =
-            doc.createRelationship(spdxPackages.get(child), RelationshipType.DEPENDS_ON, null);
-        spdxPackages.get(pkg).addRelationship(rel);
-      }
-    }
+  /**
+   * Reuses the packages of {@code packages} for their components instead of deriving them from
+   * their artifacts and poms, their artifacts aren't hashed either. Components resolved from
+   * another repository or whose pom has another supplier get new packages. The reused packages get
+   * new ids in the order they would have been created in, and their licenses are resolved again
+   * from the poms, so the document is the same as without reusing anything. The packages of this
+   * document are then indexed too, see {@link #getPackageIndex()}. Must be called before {@link
+   * #add}.
+   */
+  public void reuse(PackageIndex packages) {
+    this.reusablePackages = packages;
   }
 
-  private void add(
-      ComponentIdentifier parent,
-      ResolvedComponentResult component,
-      Set<ComponentIdentifier> visited)
-      throws InvalidSPDXAnalysisException, IOException {
-    if (visited.contains(component.getId())) {
-      return;
+  /**
+   * Writes the document as json to {@code out} while it is built, instead of adding its packages to
+   * the model store. Must be called before {@link #add}, which then writes the whole document. The
+   * model store only keeps the document and its licenses, so it can't be verified with {@code
+   * SpdxDocument.verify()}, {@link #getStructuralErrors()} still covers the packages.
+   */
+  public void streamTo(OutputStream out, boolean pretty) throws IOException {
+    jsonWriter = new SpdxJsonWriter(out, pretty);
+    sink = jsonWriter;
+  }
+
+  /** Adds packages for every component of {@code graph}, should only be called once. */
+  public void add(ComponentGraph graph) throws InvalidSPDXAnalysisException, IOException {
+    if (checksums == null) {
+      // hash everything up front so the digest work is spread across threads instead of
+      // happening one file at a time during the graph walk
+      List<File> allFiles = new ArrayList<>();
+      resolvedExternalArtifacts.forEach(
+          (component, files) -> {
+            if (reusablePackages == null
+                || !reusablePackages.contains(component.getDisplayName())) {
+              allFiles.addAll(files);
+            }
+          });
+      checksums = checksumCalculator.checksums(allFiles, checksumParallelism);
+    }
+    if (jsonWriter != null) {
+      jsonWriter.start(doc);
+    }
+    if (rootPackage != null) {
+      sink.add(rootPackage);
+    }
+    try {
+      graph.<ComponentIdentifier, InvalidSPDXAnalysisException>walk(
+          rootPackageId,
+          (component, parent) -> {
+            try {
+              // ignored components attach their dependencies to the nearest added ancestor
+              return maybeAddPackage(parent, component) ? component.getId() : parent;
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
-    visited.add(component.getId());
 
-    ComponentIdentifier effectiveParent;
-    if (maybeAddPackage(parent, component)) {
-      effectiveParent = component.getId();
+    List<String> rootPackages = new ArrayList<>();
+    if (rootPackage != null) {
+      rootPackages.add(rootPackage.getId());
     } else {
-      effectiveParent = parent;
+      for (var root : graph.getRoots()) {
+        if (packageIds.containsKey(root)) {
+          rootPackages.add(packageIds.get(root));
+        }
+      }
     }
+    sink.describes(rootPackages);
 
-    for (var child : component.getDependencies()) {
-      if (child instanceof ResolvedDependencyResult) {
-        add(effectiveParent, ((ResolvedDependencyResult) child).getSelected(), visited);
+    for (var pkg : tree.keySet()) {
+      for (var child : tree.get(pkg)) {
+        String from = packageIds.get(pkg);
+        String to = packageIds.get(child);
+        sink.relationship(from, RelationshipType.DEPENDS_ON, to);
+        verifier.relationship(from, RelationshipType.DEPENDS_ON.toString(), to);
       }
     }
+    if (jsonWriter != null) {
+      jsonWriter.finish(doc);
+    }
   }
 
   private boolean maybeAddPackage(ComponentIdentifier parent, ResolvedComponentResult component)
       throws InvalidSPDXAnalysisException, IOException {
-    if (spdxPackages.containsKey(component.getId())) {
+    if (packageIds.containsKey(component.getId())) {
       return true;
     }
 
-    Optional<SpdxPackage> maybePackage = createPackageIfNeeded(component);
+    Optional<String> maybePackage = createPackageIfNeeded(component);
     if (maybePackage.isEmpty()) {
       logger.info("ignoring: " + component.getId());
       return false;
     }
 
-    spdxPackages.put(component.getId(), maybePackage.get());
+    packageIds.put(component.getId(), maybePackage.get());
     tree.putIfAbsent(component.getId(), new LinkedHashSet<>());
     if (parent != null) {
       tree.get(parent).add(component.getId());
@@ -243,7 +312,8 @@ public class SpdxDocumentBuilder {
     return true;
   }
 
-  private Optional<SpdxPackage> createPackageIfNeeded(ResolvedComponentResult component)
+  /** Adds the package of {@code component} if it needs one and returns its id. */
+  private Optional<String> createPackageIfNeeded(ResolvedComponentResult component)
       throws InvalidSPDXAnalysisException, IOException {
     if (component.getId() instanceof ProjectComponentIdentifier) {
       return shouldCreatePackageForProject(component)
@@ -271,8 +341,8 @@ public class SpdxDocumentBuilder {
     return taskExtension.shouldCreatePackageForProject(pi);
   }
 
-  private SpdxPackage createProjectPackage(ResolvedComponentResult resolvedComponentResult)
-      throws InvalidSPDXAnalysisException {
+  private String createProjectPackage(ResolvedComponentResult resolvedComponentResult)
+      throws InvalidSPDXAnalysisException, IOException {
     var projectId = (ProjectComponentIdentifier) resolvedComponentResult.getId();
 
     var pi = getResolvedProjectInfo(projectId.getProjectPath());
@@ -295,30 +365,30 @@ public class SpdxDocumentBuilder {
     if (supplier.equals("NOASSERTION")) {
       logger.warn("supplier not set for project " + pi.getName());
     }
-    SpdxPackageBuilder builder =
-        doc.createPackage(
-                doc.getModelStore().getNextId(IdType.SpdxId),
-                pi.getName(),
-                new SpdxNoAssertionLicense(),
-                "NOASSERTION",
-                new SpdxNoAssertionLicense())
-            .setFilesAnalyzed(false)
-            .setDescription(pi.getDescription().orElse(""))
-            .setDownloadLocation("NOASSERTION")
-            .setVersionInfo(version)
-            .setSupplier(supplier);
+    ImmutablePackageFields.Builder builder =
+        ImmutablePackageFields.builder()
+            .id(doc.getModelStore().getNextId(IdType.SpdxId))
+            .name(pi.getName())
+            .licenseDeclared(new SpdxNoAssertionLicense())
+            .description(pi.getDescription().orElse(""))
+            .downloadLocation("NOASSERTION")
+            .versionInfo(version)
+            .supplier(supplier);
 
     // we want to eventually use downloadLocation instead of sourceInfo, but we'll use sourceInfo
     // for now since we don't have good defaults
     if (taskExtension != null) {
-      builder.setSourceInfo(taskExtension.mapScmForProject(scmInfo, pi).getDownloadLocation(pi));
+      builder.sourceInfo(taskExtension.mapScmForProject(scmInfo, pi).getDownloadLocation(pi));
     } else {
-      builder.setSourceInfo(scmInfo.getDownloadLocation(pi));
+      builder.sourceInfo(scmInfo.getDownloadLocation(pi));
     }
-    return builder.build();
+    PackageFields projectPackage = builder.build();
+    sink.add(projectPackage);
+    verifier.element(projectPackage.getId());
+    return projectPackage.getId();
   }
 
-  private Optional<SpdxPackage> createMavenModulePackage(
+  private Optional<String> createMavenModulePackage(
       ResolvedComponentResult resolvedComponentResult)
       throws InvalidSPDXAnalysisException, IOException {
 
@@ -362,99 +432,150 @@ public class SpdxDocumentBuilder {
       if (taskExtension != null) {
         currentRepoUri = taskExtension.mapRepoUri(currentRepoUri, moduleId);
       }
+      Optional<String> repository = Optional.ofNullable(currentRepoUri).map(URI::toString);
+
+      String component = resolvedComponentResult.getId().getDisplayName();
+      IndexedComponent previous =
+          reusablePackages != null ? reusablePackages.get(component) : null;
+      if (previous != null
+          && previous.getRepository().equals(repository)
+          && previous.getSupplier().equals(pomInfo.getPackageSupplier())) {
+        return Optional.of(reuseMavenPackages(component, previous, license));
+      }
 
+      List<IndexedPackage> indexed = new ArrayList<>();
+      String packageId;
       if (dependencyFiles.size() == 1) {
-        return Optional.of(
+        packageId =
             createFlatMavenPackage(
-                moduleId, dependencyFiles.iterator().next(), currentRepoUri, license, pomInfo));
+                moduleId,
+                dependencyFiles.iterator().next(),
+                currentRepoUri,
+                license,
+                pomInfo,
+                indexed);
       } else {
-        return Optional.of(
+        packageId =
             createContainerMavenPackage(
-                moduleId, dependencyFiles, currentRepoUri, license, pomInfo));
+                moduleId, dependencyFiles, currentRepoUri, license, pomInfo, indexed);
       }
+      if (reusablePackages != null) {
+        packageIndex.put(
+            component,
+            ImmutableIndexedComponent.builder()
+                .artifacts(PackageIndex.artifacts(dependencyFiles))
+                .repository(repository)
+                .packages(indexed)
+                .build());
+      }
+      return Optional.of(packageId);
     }
     return Optional.empty();
   }
 
-  private SpdxPackage createFlatMavenPackage(
+  /** Adds the packages of a component from the previous document, returns the containing one. */
+  private String reuseMavenPackages(
+      String component, IndexedComponent previous, AnyLicenseInfo license)
+      throws InvalidSPDXAnalysisException, IOException {
+    String componentPackageId = null;
+    for (IndexedPackage indexed : previous.getPackages()) {
+      PackageFields pkg = indexed.toPackage(doc.getModelStore().getNextId(IdType.SpdxId), license);
+      sink.add(pkg);
+      verifier.element(pkg.getId());
+      verifier.license(pkg.getId(), license);
+      if (componentPackageId == null) {
+        componentPackageId = pkg.getId();
+      } else {
+        sink.relationship(componentPackageId, RelationshipType.CONTAINS, pkg.getId());
+        verifier.relationship(
+            componentPackageId, RelationshipType.CONTAINS.toString(), pkg.getId());
+      }
+    }
+    packageIndex.put(component, previous);
+    reusedComponents++;
+    return componentPackageId;
+  }
+
+  private String createFlatMavenPackage(
       ModuleVersionIdentifier moduleId,
       File dependencyFile,
       @Nullable URI repoUri,
       AnyLicenseInfo license,
-      PomInfo pomInfo)
+      PomInfo pomInfo,
+      List<IndexedPackage> indexed)
       throws InvalidSPDXAnalysisException, IOException {
     String classifier = getClassifier(moduleId, dependencyFile.getName()).orElse(null);
     String extension = getExtension(dependencyFile.getName());
-    SpdxPackageBuilder spdxPkgBuilder =
-        doc.createPackage(
-                doc.getModelStore().getNextId(IdType.SpdxId),
+    ImmutablePackageFields.Builder spdxPkgBuilder =
+        ImmutablePackageFields.builder()
+            .id(doc.getModelStore().getNextId(IdType.SpdxId))
+            .name(
                 moduleId.getGroup()
                     + ":"
                     + moduleId.getName()
-                    + (classifier != null ? ":" + classifier : ""),
-                new SpdxNoAssertionLicense(),
-                "NOASSERTION",
-                license)
-            .setSupplier(MavenPackageSupplierBuilder.buildPackageSupplier(pomInfo))
-            .setVersionInfo(moduleId.getVersion())
-            .setFilesAnalyzed(false);
+                    + (classifier != null ? ":" + classifier : ""))
+            .licenseDeclared(license)
+            .supplier(pomInfo.getPackageSupplier())
+            .versionInfo(moduleId.getVersion());
 
     if (repoUri != null) {
-      spdxPkgBuilder.setDownloadLocation(
-          URIs.toDownloadLocation(repoUri, moduleId, dependencyFile.getName()).toString());
-      var externalRef =
-          doc.createExternalRef(
-              ReferenceCategory.PACKAGE_MANAGER,
-              new ReferenceType(SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "purl"),
-              URIs.toPurl(repoUri, moduleId, classifier, extension),
-              null);
-      spdxPkgBuilder.setExternalRefs(List.of(externalRef));
+      spdxPkgBuilder
+          .downloadLocation(
+              URIs.toDownloadLocation(repoUri, moduleId, dependencyFile.getName()).toString())
+          .purl(URIs.toPurl(repoUri, moduleId, classifier, extension));
     } else {
-      spdxPkgBuilder.setDownloadLocation("NOASSERTION");
+      spdxPkgBuilder.downloadLocation("NOASSERTION");
     }
 
-    String sha1 =
-        com.google.common.io.Files.asByteSource(dependencyFile).hash(Hashing.sha1()).toString();
-    var checksumSha1 = doc.createChecksum(ChecksumAlgorithm.SHA1, sha1);
-    String sha256 =
-        com.google.common.io.Files.asByteSource(dependencyFile).hash(Hashing.sha256()).toString();
-    var checksumSha256 = doc.createChecksum(ChecksumAlgorithm.SHA256, sha256);
-    spdxPkgBuilder.setChecksums(List.of(checksumSha1, checksumSha256));
-
-    return spdxPkgBuilder.build();
+    FileChecksums fileChecksums = checksums.get(dependencyFile);
+    if (fileChecksums == null) {
+      fileChecksums = checksumCalculator.checksums(dependencyFile);
+    }
+    spdxPkgBuilder
+        .putChecksums(ChecksumAlgorithm.SHA1, fileChecksums.get(ChecksumAlgorithm.SHA1))
+        .putChecksums(ChecksumAlgorithm.SHA256, fileChecksums.get(ChecksumAlgorithm.SHA256));
+
+    PackageFields spdxPackage = spdxPkgBuilder.build();
+    indexed.add(IndexedPackage.of(spdxPackage));
+    sink.add(spdxPackage);
+    verifier.element(spdxPackage.getId());
+    verifier.license(spdxPackage.getId(), license);
+    return spdxPackage.getId();
   }
 
-  private SpdxPackage createContainerMavenPackage(
+  private String createContainerMavenPackage(
       ModuleVersionIdentifier moduleId,
       Set<File> dependencyFiles,
       @Nullable URI repoUri,
       AnyLicenseInfo license,
-      PomInfo pomInfo)
+      PomInfo pomInfo,
+      List<IndexedPackage> indexed)
       throws InvalidSPDXAnalysisException, IOException {
-    SpdxPackageBuilder componentPkgBuilder =
-        doc.createPackage(
-                doc.getModelStore().getNextId(IdType.SpdxId),
-                moduleId.getGroup() + ":" + moduleId.getName(),
-                new SpdxNoAssertionLicense(),
-                "NOASSERTION",
-                license)
-            .setSupplier(MavenPackageSupplierBuilder.buildPackageSupplier(pomInfo))
-            .setVersionInfo(moduleId.getVersion())
-            .setDownloadLocation("NOASSERTION")
-            .setFilesAnalyzed(false);
-
-    SpdxPackage componentPackage = componentPkgBuilder.build();
+    PackageFields componentPackage =
+        ImmutablePackageFields.builder()
+            .id(doc.getModelStore().getNextId(IdType.SpdxId))
+            .name(moduleId.getGroup() + ":" + moduleId.getName())
+            .licenseDeclared(license)
+            .supplier(pomInfo.getPackageSupplier())
+            .versionInfo(moduleId.getVersion())
+            .downloadLocation("NOASSERTION")
+            .build();
+    indexed.add(IndexedPackage.of(componentPackage));
+    sink.add(componentPackage);
+    verifier.element(componentPackage.getId());
+    verifier.license(componentPackage.getId(), license);
 
     List<File> sortedFiles = new ArrayList<>(dependencyFiles);
     sortedFiles.sort((f1, f2) -> f1.getName().compareTo(f2.getName()));
     for (File dependencyFile : sortedFiles) {
-      SpdxPackage filePackage =
-          createFlatMavenPackage(moduleId, dependencyFile, repoUri, license, pomInfo);
-      var containsRel = doc.createRelationship(filePackage, RelationshipType.CONTAINS, null);
-      componentPackage.addRelationship(containsRel);
+      String filePackageId =
+          createFlatMavenPackage(moduleId, dependencyFile, repoUri, license, pomInfo, indexed);
+      sink.relationship(componentPackage.getId(), RelationshipType.CONTAINS, filePackageId);
+      verifier.relationship(
+          componentPackage.getId(), RelationshipType.CONTAINS.toString(), filePackageId);
     }
 
-    return componentPackage;
+    return componentPackage.getId();
   }
 
   /**
@@ -492,7 +613,105 @@ public class SpdxDocumentBuilder {
     return "";
   }
 
+  /** The document, without any packages if it was written with {@link #streamTo}. */
   public SpdxDocument getSpdxDocument() {
     return doc;
   }
+
+  public SpdxLicenses getLicenses() {
+    return licenses;
+  }
+
+  /** The number of components that got a package, including the uber package. */
+  public int getPackageCount() {
+    return packageIds.size();
+  }
+
+  /**
+   * The maven packages of this document, for reuse by the next incremental run. Empty unless
+   * {@link #reuse} was called.
+   */
+  public PackageIndex getPackageIndex() {
+    return packageIndex;
+  }
+
+  /** The number of components whose packages were reused from the previous document. */
+  public int getReusedComponentCount() {
+    return reusedComponents;
+  }
+
+  /**
+   * Errors found by the checks done while building: malformed or duplicate ids, relationships to
+   * unknown elements and references to licenses missing from the document.
+   */
+  public List<String> getStructuralErrors() throws InvalidSPDXAnalysisException {
+    Set<String> extractedLicenseIds = new HashSet<>();
+    for (var extractedLicense : doc.getExtractedLicenseInfos()) {
+      extractedLicenseIds.add(extractedLicense.getId());
+    }
+    return verifier.errors(extractedLicenseIds);
+  }
+
+  /** Adds packages to the model store of the document. */
+  private final class StorePackageSink implements PackageSink {
+    private final Map<String, SpdxPackage> packages = new HashMap<>();
+
+    @Override
+    public void add(PackageFields pkg) throws InvalidSPDXAnalysisException {
+      SpdxPackageBuilder builder =
+          doc.createPackage(
+                  pkg.getId(),
+                  pkg.getName(),
+                  new SpdxNoAssertionLicense(),
+                  "NOASSERTION",
+                  pkg.getLicenseDeclared())
+              .setFilesAnalyzed(false)
+              .setDownloadLocation(pkg.getDownloadLocation());
+      if (pkg.getVersionInfo().isPresent()) {
+        builder.setVersionInfo(pkg.getVersionInfo().get());
+      }
+      if (pkg.getSupplier().isPresent()) {
+        builder.setSupplier(pkg.getSupplier().get());
+      }
+      if (pkg.getDescription().isPresent()) {
+        builder.setDescription(pkg.getDescription().get());
+      }
+      if (pkg.getSourceInfo().isPresent()) {
+        builder.setSourceInfo(pkg.getSourceInfo().get());
+      }
+      if (!pkg.getChecksums().isEmpty()) {
+        List<Checksum> checksums = new ArrayList<>();
+        for (var checksum : pkg.getChecksums().entrySet()) {
+          checksums.add(doc.createChecksum(checksum.getKey(), checksum.getValue()));
+        }
+        builder.setChecksums(checksums);
+      }
+      if (pkg.getPurl().isPresent()) {
+        builder.setExternalRefs(
+            List.of(
+                doc.createExternalRef(
+                    ReferenceCategory.PACKAGE_MANAGER,
+                    new ReferenceType(
+                        SpdxConstantsCompatV2.SPDX_LISTED_REFERENCE_TYPES_PREFIX + "purl"),
+                    pkg.getPurl().get(),
+                    null)));
+      }
+      packages.put(pkg.getId(), builder.build());
+    }
+
+    @Override
+    public void relationship(String fromId, RelationshipType type, String toId)
+        throws InvalidSPDXAnalysisException {
+      packages.get(fromId).addRelationship(doc.createRelationship(packages.get(toId), type, null));
+    }
+
+    @Override
+    public void describes(List<String> ids) throws InvalidSPDXAnalysisException {
+      List<SpdxItem> items = new ArrayList<>();
+      for (String id : ids) {
+        items.add(packages.get(id));
+      }
+      doc.setDocumentDescribes(items);
+    }
+  }
 }
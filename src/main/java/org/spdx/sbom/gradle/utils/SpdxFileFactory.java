@@ -15,7 +15,6 @@
  */
 package org.spdx.sbom.gradle.utils;
 
-import com.google.common.hash.Hashing;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -26,11 +25,14 @@ import org.spdx.library.model.v2.SpdxDocument;
 import org.spdx.library.model.v2.SpdxFile;
 import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
 import org.spdx.library.model.v2.license.SpdxNoAssertionLicense;
+import org.spdx.sbom.gradle.checksums.ChecksumCalculator;
 import org.spdx.storage.IModelStore.IdType;
 
 public class SpdxFileFactory {
   private final SpdxDocument doc;
   private final Path projectDir;
+  private final ChecksumCalculator checksumCalculator =
+      ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1);
 
   public SpdxFileFactory(SpdxDocument spdxDocument, File projectDir) {
     this.doc = spdxDocument;
@@ -38,8 +40,7 @@ public class SpdxFileFactory {
   }
 
   public SpdxFile newFile(Path file) throws InvalidSPDXAnalysisException, IOException {
-    String sha1 =
-        com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha1()).toString();
+    String sha1 = checksumCalculator.checksums(file.toFile()).get(ChecksumAlgorithm.SHA1);
     Path relativePath = projectDir.relativize(file);
     Checksum checksum = doc.createChecksum(ChecksumAlgorithm.SHA1, sha1);
     return doc.createSpdxFile(
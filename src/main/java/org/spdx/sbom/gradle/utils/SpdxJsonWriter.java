@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.spdx.core.InvalidSPDXAnalysisException;
+import org.spdx.library.model.v2.SpdxCreatorInformation;
+import org.spdx.library.model.v2.SpdxDocument;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.v2.enumerations.RelationshipType;
+import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
+
+/**
+ * Writes the spdx json format while {@link SpdxDocumentBuilder} creates the document, each package
+ * is written as soon as it is added and never enters the model store. Only the ids of
+ * relationships are kept until the end of the document. The model store still holds the document
+ * itself and its licenses, which are written last.
+ *
+ * <p>The output has the same fields as {@code MultiFormatStore}'s json, in a different order.
+ */
+class SpdxJsonWriter implements PackageSink {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final JsonGenerator json;
+  private final List<String[]> relationships = new ArrayList<>();
+  private final List<String> describes = new ArrayList<>();
+
+  /** Writes to {@code out}, which is left open. */
+  SpdxJsonWriter(OutputStream out, boolean pretty) throws IOException {
+    json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    if (pretty) {
+      json.useDefaultPrettyPrinter();
+    }
+  }
+
+  /** Writes everything up to the first package. */
+  void start(SpdxDocument doc) throws IOException, InvalidSPDXAnalysisException {
+    json.writeStartObject();
+    json.writeStringField("SPDXID", doc.getId());
+    json.writeStringField("spdxVersion", doc.getSpecVersion());
+    writeCreationInfo(doc.getCreationInfo());
+    writeOptional("name", doc.getName());
+    json.writeStringField("dataLicense", doc.getDataLicense().toString());
+    json.writeStringField("documentNamespace", doc.getDocumentUri());
+    json.writeArrayFieldStart("packages");
+  }
+
+  @Override
+  public void add(PackageFields pkg) throws IOException {
+    json.writeStartObject();
+    json.writeStringField("SPDXID", pkg.getId());
+    if (!pkg.getChecksums().isEmpty()) {
+      json.writeArrayFieldStart("checksums");
+      for (Map.Entry<ChecksumAlgorithm, String> checksum : pkg.getChecksums().entrySet()) {
+        json.writeStartObject();
+        json.writeStringField("algorithm", checksum.getKey().toString());
+        json.writeStringField("checksumValue", checksum.getValue());
+        json.writeEndObject();
+      }
+      json.writeEndArray();
+    }
+    json.writeStringField("copyrightText", "NOASSERTION");
+    writeOptional("description", pkg.getDescription());
+    json.writeStringField("downloadLocation", pkg.getDownloadLocation());
+    if (pkg.getPurl().isPresent()) {
+      json.writeArrayFieldStart("externalRefs");
+      json.writeStartObject();
+      json.writeStringField("referenceCategory", "PACKAGE-MANAGER");
+      json.writeStringField("referenceLocator", pkg.getPurl().get());
+      json.writeStringField("referenceType", "purl");
+      json.writeEndObject();
+      json.writeEndArray();
+    }
+    json.writeBooleanField("filesAnalyzed", false);
+    json.writeStringField("licenseConcluded", "NOASSERTION");
+    json.writeStringField("licenseDeclared", pkg.getLicenseDeclared().toString());
+    json.writeArrayFieldStart("licenseInfoFromFiles");
+    json.writeEndArray();
+    json.writeStringField("name", pkg.getName());
+    writeOptional("sourceInfo", pkg.getSourceInfo());
+    writeOptional("supplier", pkg.getSupplier());
+    writeOptional("versionInfo", pkg.getVersionInfo());
+    json.writeEndObject();
+  }
+
+  @Override
+  public void relationship(String fromId, RelationshipType type, String toId) {
+    relationships.add(new String[] {fromId, type.toString(), toId});
+  }
+
+  @Override
+  public void describes(List<String> ids) {
+    describes.addAll(ids);
+  }
+
+  /** Writes the relationships and the extracted licenses, and ends the document. */
+  void finish(SpdxDocument doc) throws IOException, InvalidSPDXAnalysisException {
+    json.writeEndArray();
+
+    json.writeArrayFieldStart("relationships");
+    for (String id : describes) {
+      writeRelationship(doc.getId(), RelationshipType.DESCRIBES.toString(), id);
+    }
+    for (String[] relationship : relationships) {
+      writeRelationship(relationship[0], relationship[1], relationship[2]);
+    }
+    json.writeEndArray();
+
+    writeExtractedLicenses(doc);
+    json.writeEndObject();
+    json.close();
+  }
+
+  private void writeRelationship(String from, String type, String to) throws IOException {
+    json.writeStartObject();
+    json.writeStringField("spdxElementId", from);
+    json.writeStringField("relationshipType", type);
+    json.writeStringField("relatedSpdxElement", to);
+    json.writeEndObject();
+  }
+
+  private void writeCreationInfo(SpdxCreatorInformation creationInfo)
+      throws IOException, InvalidSPDXAnalysisException {
+    json.writeObjectFieldStart("creationInfo");
+    writeOptional("comment", creationInfo.getComment());
+    json.writeStringField("created", creationInfo.getCreated());
+    json.writeArrayFieldStart("creators");
+    for (String creator : creationInfo.getCreators()) {
+      json.writeString(creator);
+    }
+    json.writeEndArray();
+    writeOptional("licenseListVersion", creationInfo.getLicenseListVersion());
+    json.writeEndObject();
+  }
+
+  private void writeExtractedLicenses(SpdxDocument doc)
+      throws IOException, InvalidSPDXAnalysisException {
+    List<ExtractedLicenseInfo> licenses = new ArrayList<>(doc.getExtractedLicenseInfos());
+    if (licenses.isEmpty()) {
+      return;
+    }
+    licenses.sort(Comparator.comparing(ExtractedLicenseInfo::getId));
+    json.writeArrayFieldStart("hasExtractedLicensingInfos");
+    for (ExtractedLicenseInfo license : licenses) {
+      json.writeStartObject();
+      json.writeStringField("licenseId", license.getLicenseId());
+      json.writeStringField("extractedText", license.getExtractedText());
+      if (license.getName() != null && !license.getName().isEmpty()) {
+        json.writeStringField("name", license.getName());
+      }
+      if (!license.getSeeAlso().isEmpty()) {
+        json.writeArrayFieldStart("seeAlsos");
+        for (String seeAlso : license.getSeeAlso()) {
+          json.writeString(seeAlso);
+        }
+        json.writeEndArray();
+      }
+      json.writeEndObject();
+    }
+    json.writeEndArray();
+  }
+
+  private void writeOptional(String field, Optional<String> value) throws IOException {
+    if (value.isPresent()) {
+      json.writeStringField(field, value.get());
+    }
+  }
+}
@@ -19,13 +19,19 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
 import org.spdx.sbom.gradle.maven.PomInfo.LicenseInfo;
 import org.spdx.storage.listedlicense.LicenseJsonTOC;
 
@@ -36,42 +42,93 @@ public class SpdxKnownLicenses {
   private final ImmutableMap<String, String> licenses;
 
   private static final String SPDX_LICENSE_URL_PREFIX = "https://spdx.org/licenses/";
-  private static final String REMOTE_LICENSES = SPDX_LICENSE_URL_PREFIX + "licenses.json";
+  static final String REMOTE_LICENSES = SPDX_LICENSE_URL_PREFIX + "licenses.json";
+  private static final String BUNDLED_LICENSES = "resources/stdlicenses/licenses.json";
+  // generated at build time from BUNDLED_LICENSES, see LicenseIndexWriter
+  static final String BUNDLED_LICENSE_INDEX = "license-index.txt";
 
-  private SpdxKnownLicenses(Map<String, String> licenses) {
+  SpdxKnownLicenses(Map<String, String> licenses) {
     this.licenses = ImmutableMap.copyOf(licenses);
   }
 
-  public static SpdxKnownLicenses knownLicenses(boolean onlyUseLocalLicenses)
+  /**
+   * Loads the license list from {@code remoteLicenses}, or from the list bundled with the spdx
+   * library when offline ({@code remoteLicenses} is null) or the remote list is unavailable.
+   */
+  public static SpdxKnownLicenses knownLicenses(@Nullable LicenseListCache remoteLicenses)
       throws IOException, JsonParseException {
-    InputStream inputStream = null;
-    if (!onlyUseLocalLicenses) {
-      try {
-        java.net.URL url = new java.net.URL(REMOTE_LICENSES);
-        inputStream = url.openStream();
-      } catch (IOException e) {
-        // Fallback to local cache if offline
+    if (remoteLicenses != null) {
+      byte[] licenses = remoteLicenses.load();
+      if (licenses != null) {
+        try {
+          return fromStream(new ByteArrayInputStream(licenses));
+        } catch (JsonParseException e) {
+          // a truncated or otherwise broken download, don't keep using it
+          remoteLicenses.invalidate();
+        }
       }
     }
-    if (inputStream == null) {
-      inputStream =
-          SpdxKnownLicenses.class
-              .getClassLoader()
-              .getResourceAsStream("resources/stdlicenses/licenses.json");
+    return bundledLicenses();
+  }
+
+  private static SpdxKnownLicenses bundledLicenses() throws IOException, JsonParseException {
+    InputStream index = SpdxKnownLicenses.class.getResourceAsStream(BUNDLED_LICENSE_INDEX);
+    if (index != null) {
+      return new SpdxKnownLicenses(readIndex(index));
     }
+    // the index is missing when running from sources that were not built by gradle
+    return fromStream(bundledToc());
+  }
+
+  static InputStream bundledToc() throws IOException {
+    InputStream inputStream =
+        SpdxKnownLicenses.class.getClassLoader().getResourceAsStream(BUNDLED_LICENSES);
     if (inputStream == null) {
       throw new IOException("Could not load licenses.json from web or classpath resources");
     }
-    return fromStream(inputStream);
+    return inputStream;
   }
 
   private static SpdxKnownLicenses fromStream(InputStream stream)
       throws IOException, JsonParseException {
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
       return new SpdxKnownLicenses(getLicenseToUrlMap(reader));
     }
   }
 
+  /** Writes the url to license id map of a license list toc as tab separated lines. */
+  static void writeIndex(InputStream stream, Writer out) throws IOException, JsonParseException {
+    Map<String, String> licenses;
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+      licenses = new TreeMap<>(getLicenseToUrlMap(reader));
+    }
+    BufferedWriter writer = new BufferedWriter(out);
+    for (Map.Entry<String, String> license : licenses.entrySet()) {
+      writer.write(license.getKey());
+      writer.write('\t');
+      writer.write(license.getValue());
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  private static Map<String, String> readIndex(InputStream stream) throws IOException {
+    Map<String, String> licenses = new HashMap<>();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int tab = line.indexOf('\t');
+        if (tab > 0) {
+          licenses.put(line.substring(0, tab), line.substring(tab + 1));
+        }
+      }
+    }
+    return licenses;
+  }
+
   // See: spdx-maven-plugin:MavenToSpdxLicenseMapper
   private static HashMap<String, String> getLicenseToUrlMap(BufferedReader jsonReader)
       throws JsonParseException {
@@ -79,19 +136,16 @@ public class SpdxKnownLicenses {
     LicenseJsonTOC jsonToc = gson.fromJson(jsonReader, LicenseJsonTOC.class);
 
     HashMap<String, String> licenseUrlToSpdxId = new HashMap<>();
-    List<String> urlsWithMultipleIds = new ArrayList<>();
+    Set<String> urlsWithMultipleIds = new HashSet<>();
     for (LicenseJsonTOC.LicenseJson licenseJson : jsonToc.getLicenses()) {
       String licenseId = licenseJson.getLicenseId();
-      licenseUrlToSpdxId.put(SPDX_LICENSE_URL_PREFIX + licenseId, licenseId);
       // see also has alt urls
       if (licenseJson.getSeeAlso() != null) {
         for (String otherUrl : licenseJson.getSeeAlso()) {
-          // standardize keys against http
-          String url = normalize(otherUrl);
-          if (licenseUrlToSpdxId.containsKey(url)) {
-            urlsWithMultipleIds.add(url);
-          } else {
-            licenseUrlToSpdxId.put(url, licenseId);
+          // variants of the same url only conflict when they point to different licenses
+          String existing = licenseUrlToSpdxId.putIfAbsent(normalize(otherUrl), licenseId);
+          if (existing != null && !existing.equals(licenseId)) {
+            urlsWithMultipleIds.add(normalize(otherUrl));
           }
         }
       }
@@ -100,14 +154,19 @@ public class SpdxKnownLicenses {
     for (String redundantUrl : urlsWithMultipleIds) {
       licenseUrlToSpdxId.remove(redundantUrl);
     }
+    for (LicenseJsonTOC.LicenseJson licenseJson : jsonToc.getLicenses()) {
+      String licenseId = licenseJson.getLicenseId();
+      licenseUrlToSpdxId.put(normalize(SPDX_LICENSE_URL_PREFIX + licenseId), licenseId);
+    }
 
     // custom licenses not reflected in the license list
-    licenseUrlToSpdxId.put("http://www.apache.org/licenses/LICENSE-2.0.txt", "Apache-2.0");
-    licenseUrlToSpdxId.put("http://www.opensource.org/licenses/cpl1.0.txt", "CPL-1.0");
-    licenseUrlToSpdxId.put("http://www.opensource.org/licenses/mit-license.php", "MIT");
+    licenseUrlToSpdxId.put(
+        normalize("http://www.apache.org/licenses/LICENSE-2.0.txt"), "Apache-2.0");
+    licenseUrlToSpdxId.put(normalize("http://www.opensource.org/licenses/cpl1.0.txt"), "CPL-1.0");
+    licenseUrlToSpdxId.put(normalize("http://www.opensource.org/licenses/mit-license.php"), "MIT");
     // The following is in the listed licenses, but is duplicated in multiple SPDX license ID's
     // adding it back for the license it was originally targeted for
-    licenseUrlToSpdxId.put("http://www.mozilla.org/MPL/MPL-1.0.txt", "MPL-1.0");
+    licenseUrlToSpdxId.put(normalize("http://www.mozilla.org/MPL/MPL-1.0.txt"), "MPL-1.0");
 
     return licenseUrlToSpdxId;
   }
@@ -120,7 +179,69 @@ public class SpdxKnownLicenses {
     return licenses.containsKey(normalize(license.getUrl()));
   }
 
+  /** The license id for a url already passed through {@link #normalize}, null if unknown. */
+  @Nullable
+  public String getIdForNormalizedUrl(String normalizedUrl) {
+    return licenses.get(normalizedUrl);
+  }
+
+  /**
+   * The key license urls are compared by. The scheme, a leading {@code www.}, trailing slashes and
+   * a {@code .txt}, {@code .html} or {@code .htm} extension are dropped and the host is lower case,
+   * so that {@code https://www.apache.org/licenses/LICENSE-2.0.txt} and {@code
+   * http://Apache.org/licenses/LICENSE-2.0} are the same. Paths are case sensitive and kept as
+   * they are. Runs without regular expressions and only allocates the result when it differs from
+   * {@code licenseUrl}.
+   */
   static String normalize(String licenseUrl) {
-    return licenseUrl.replaceAll("https", "http");
+    int start = 0;
+    int end = licenseUrl.length();
+    while (start < end && Character.isWhitespace(licenseUrl.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(licenseUrl.charAt(end - 1))) {
+      end--;
+    }
+    if (licenseUrl.regionMatches(true, start, "https://", 0, 8)) {
+      start += 8;
+    } else if (licenseUrl.regionMatches(true, start, "http://", 0, 7)) {
+      start += 7;
+    }
+    if (licenseUrl.regionMatches(true, start, "www.", 0, 4)) {
+      start += 4;
+    }
+    while (end > start && licenseUrl.charAt(end - 1) == '/') {
+      end--;
+    }
+    if (endsWith(licenseUrl, start, end, ".html")) {
+      end -= 5;
+    } else if (endsWith(licenseUrl, start, end, ".htm")
+        || endsWith(licenseUrl, start, end, ".txt")) {
+      end -= 4;
+    }
+
+    int hostEnd = start;
+    while (hostEnd < end && licenseUrl.charAt(hostEnd) != '/') {
+      hostEnd++;
+    }
+    boolean lowerCase = true;
+    for (int i = start; i < hostEnd && lowerCase; i++) {
+      lowerCase = Character.toLowerCase(licenseUrl.charAt(i)) == licenseUrl.charAt(i);
+    }
+    if (lowerCase) {
+      boolean unchanged = start == 0 && end == licenseUrl.length();
+      return unchanged ? licenseUrl : licenseUrl.substring(start, end);
+    }
+    char[] normalized = new char[end - start];
+    for (int i = start; i < end; i++) {
+      char c = licenseUrl.charAt(i);
+      normalized[i - start] = i < hostEnd ? Character.toLowerCase(c) : c;
+    }
+    return new String(normalized);
+  }
+
+  private static boolean endsWith(String value, int start, int end, String suffix) {
+    return end - start > suffix.length()
+        && value.regionMatches(true, end - suffix.length(), suffix, 0, suffix.length());
   }
 }
@@ -15,32 +15,92 @@
  */
 package org.spdx.sbom.gradle.utils;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
+import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
 import org.spdx.library.ListedLicenses;
 
-/** A shared service for loading remote spdx license list. */
+/**
+ * A shared service for loading remote spdx license list. Loading starts in the background when the
+ * service is created and is waited for when the list is first used by an sbom task.
+ */
 public abstract class SpdxKnownLicensesService
     implements BuildService<SpdxKnownLicensesService.Params> {
 
   public interface Params extends BuildServiceParameters {
     Property<Boolean> getOnlyUseLocalLicenses();
+
+    DirectoryProperty getLicenseCacheDirectory();
+
+    Property<Duration> getLicenseListTtl();
   }
 
-  private final SpdxKnownLicenses spdxKnownLicenses;
+  private final CompletableFuture<SpdxKnownLicenses> spdxKnownLicenses = new CompletableFuture<>();
+  private final LicenseExpressionCache licenseExpressions = new LicenseExpressionCache();
+  @Nullable private final LicenseListCache remoteLicenses;
 
   @Inject
-  public SpdxKnownLicensesService() throws IOException {
+  public SpdxKnownLicensesService() {
     boolean offline = getParameters().getOnlyUseLocalLicenses().getOrElse(false);
     System.setProperty("org.spdx.useJARLicenseInfoOnly", String.valueOf(offline));
-    ListedLicenses.getListedLicenses();
-    this.spdxKnownLicenses = SpdxKnownLicenses.knownLicenses(offline);
+    remoteLicenses =
+        offline
+            ? null
+            : new LicenseListCache(
+                URI.create(SpdxKnownLicenses.REMOTE_LICENSES),
+                getParameters().getLicenseCacheDirectory().get().getAsFile().toPath(),
+                getParameters().getLicenseListTtl().get());
+    Thread loader =
+        new Thread(
+            () -> {
+              try {
+                ListedLicenses.getListedLicenses();
+                spdxKnownLicenses.complete(SpdxKnownLicenses.knownLicenses(remoteLicenses));
+              } catch (Throwable t) {
+                spdxKnownLicenses.completeExceptionally(t);
+              }
+            },
+            "spdx-license-list-loader");
+    loader.setDaemon(true);
+    loader.start();
   }
 
+  /** The known licenses, waits for them to be loaded. */
   public SpdxKnownLicenses getKnownLicenses() {
-    return spdxKnownLicenses;
+    try {
+      return spdxKnownLicenses.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw new UncheckedIOException((IOException) e.getCause());
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * The cached copy of the remote license list, empty when only the bundled list is used. Tasks
+   * track it as an input by content, which doesn't wait for the list to be loaded. A list that is
+   * downloaded for the first time during the build is seen as a change by the next build.
+   */
+  public List<File> getLicenseListFiles() {
+    return remoteLicenses == null
+        ? List.of()
+        : List.of(remoteLicenses.getCacheFile().toFile());
+  }
+
+  /** Pom license lists resolved to license expressions, shared by all sbom tasks of the build. */
+  public LicenseExpressionCache getLicenseExpressions() {
+    return licenseExpressions;
   }
 }
@@ -20,6 +20,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import org.gradle.api.logging.Logger;
 import org.spdx.core.IModelCopyManager;
 import org.spdx.core.InvalidSPDXAnalysisException;
@@ -36,28 +40,41 @@ public class SpdxLicenses {
 
   private final Logger logger;
   private final Map<String, AnyLicenseInfo> projectLicenses = new HashMap<>();
+  // keyed by the normalized urls of all the licenses of a pom
+  private final Map<List<String>, AnyLicenseInfo> licenseLists = new HashMap<>();
+  private final LicenseExpressionCache expressions;
   private final SpdxDocument doc;
   private final IModelStore modelStore;
   private final IModelCopyManager copyManager;
-  private final SpdxKnownLicenses knownLicenses;
+  // loaded in the background, only waited for when the first license is looked up
+  private final Supplier<SpdxKnownLicenses> knownLicensesSupplier;
+  @Nullable private SpdxKnownLicenses knownLicenses;
+  private long parses;
+  private long reuses;
+  private long parseNanos;
 
   private SpdxLicenses(
       Logger logger,
       SpdxDocument doc,
       IModelStore modelStore,
       IModelCopyManager copyManager,
-      SpdxKnownLicenses knownLicenses) {
+      Supplier<SpdxKnownLicenses> knownLicenses,
+      LicenseExpressionCache expressions) {
     this.logger = logger;
     this.doc = doc;
     this.modelStore = modelStore;
     this.copyManager = copyManager;
-    this.knownLicenses = knownLicenses;
+    this.knownLicensesSupplier = knownLicenses;
+    this.expressions = expressions;
   }
 
   public static SpdxLicenses newSpdxLicenes(
-      Logger logger, SpdxDocument doc, SpdxKnownLicenses spdxKnownLicenses) {
+      Logger logger,
+      SpdxDocument doc,
+      Supplier<SpdxKnownLicenses> spdxKnownLicenses,
+      LicenseExpressionCache expressions) {
     return new SpdxLicenses(
-        logger, doc, doc.getModelStore(), doc.getCopyManager(), spdxKnownLicenses);
+        logger, doc, doc.getModelStore(), doc.getCopyManager(), spdxKnownLicenses, expressions);
   }
 
   public AnyLicenseInfo asSpdxLicense(List<LicenseInfo> licenses)
@@ -65,6 +82,69 @@ public class SpdxLicenses {
     if (licenses.isEmpty()) {
       return new SpdxNoAssertionLicense();
     }
+    List<String> normalizedUrls = new ArrayList<>(licenses.size());
+    for (var license : licenses) {
+      if (license.getUrl() == null) {
+        return createLicenses(licenses);
+      }
+      normalizedUrls.add(SpdxKnownLicenses.normalize(license.getUrl()));
+    }
+    AnyLicenseInfo existing = licenseLists.get(normalizedUrls);
+    if (existing != null) {
+      reuses++;
+      return existing;
+    }
+    Optional<String> expression = expressions.expression(normalizedUrls, getKnownLicenses());
+    AnyLicenseInfo spdxLicense;
+    if (expression.isPresent()) {
+      // a whole list of known licenses is parsed at once, instead of a license at a time
+      try {
+        spdxLicense = parse(expression.get());
+      } catch (InvalidSPDXAnalysisException e) {
+        throw new InvalidSPDXAnalysisException("licenses: " + licenses, e);
+      }
+    } else {
+      spdxLicense = createLicenses(licenses);
+    }
+    licenseLists.put(normalizedUrls, spdxLicense);
+    return spdxLicense;
+  }
+
+  /** The number of license expressions parsed into this document. */
+  public long getParses() {
+    return parses;
+  }
+
+  /** The number of license lookups that reused an expression already parsed into this document. */
+  public long getReuses() {
+    return reuses;
+  }
+
+  /** The time spent parsing license expressions into this document, in milliseconds. */
+  public long getParseMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(parseNanos);
+  }
+
+  private AnyLicenseInfo parse(String expression) throws InvalidSPDXAnalysisException {
+    long start = System.nanoTime();
+    try {
+      return LicenseInfoFactory.parseSPDXLicenseStringCompatV2(
+          expression, modelStore, doc.getDocumentUri(), copyManager);
+    } finally {
+      parses++;
+      parseNanos += System.nanoTime() - start;
+    }
+  }
+
+  private SpdxKnownLicenses getKnownLicenses() {
+    if (knownLicenses == null) {
+      knownLicenses = knownLicensesSupplier.get();
+    }
+    return knownLicenses;
+  }
+
+  private AnyLicenseInfo createLicenses(List<LicenseInfo> licenses)
+      throws InvalidSPDXAnalysisException {
     if (licenses.size() == 1) {
       return getOrCreateLicense(licenses.get(0));
     }
@@ -86,15 +166,15 @@ public class SpdxLicenses {
 
     String normalizedLicenseUrl = SpdxKnownLicenses.normalize(license.getUrl());
     if (projectLicenses.containsKey(normalizedLicenseUrl)) {
+      reuses++;
       return projectLicenses.get(normalizedLicenseUrl);
     }
     // it's a known license
-    if (knownLicenses.contains(license)) {
+    String knownLicenseId = getKnownLicenses().getIdForNormalizedUrl(normalizedLicenseUrl);
+    if (knownLicenseId != null) {
       AnyLicenseInfo knownLicense;
       try {
-        knownLicense =
-            LicenseInfoFactory.parseSPDXLicenseStringCompatV2(
-                knownLicenses.getIdFor(license), modelStore, doc.getDocumentUri(), copyManager);
+        knownLicense = parse(knownLicenseId);
       } catch (InvalidSPDXAnalysisException e) {
         throw new InvalidSPDXAnalysisException("license: " + license, e);
       }
@@ -117,9 +197,8 @@ public class SpdxLicenses {
         new ExtractedLicenseInfo(modelStore, doc.getDocumentUri(), licenseId, copyManager, true);
     unknown.setName(license.getName());
     unknown.setExtractedText(license.getName());
-    unknown.setSeeAlso(Collections.singleton(SpdxKnownLicenses.normalize(license.getUrl())));
+    unknown.setSeeAlso(Collections.singleton(license.getUrl().trim()));
     doc.addExtractedLicenseInfos(unknown);
-    return LicenseInfoFactory.parseSPDXLicenseStringCompatV2(
-        licenseId, modelStore, doc.getDocumentUri(), copyManager);
+    return parse(licenseId);
   }
 }
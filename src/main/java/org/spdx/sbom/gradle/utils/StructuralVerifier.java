@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.spdx.library.model.v2.license.AnyLicenseInfo;
+
+/**
+ * Checks element ids, relationships and license references as the document is built, which is
+ * much cheaper than walking the finished document with {@code SpdxDocument.verify()}.
+ */
+class StructuralVerifier {
+  private static final Pattern SPDX_ID = Pattern.compile("SPDXRef-[A-Za-z0-9.\\-]+");
+  private static final Pattern LICENSE_REF = Pattern.compile("LicenseRef-[A-Za-z0-9.\\-]+");
+
+  private final Set<String> elementIds = new HashSet<>();
+  // referenced license id -> first element referencing it
+  private final Map<String, String> licenseRefs = new TreeMap<>();
+  private final List<String> errors = new ArrayList<>();
+
+  void element(String id) {
+    if (!SPDX_ID.matcher(id).matches()) {
+      errors.add("Invalid SPDX identifier: " + id);
+    }
+    if (!elementIds.add(id)) {
+      errors.add("Duplicate SPDX identifier: " + id);
+    }
+  }
+
+  void relationship(String from, String type, String to) {
+    if (!elementIds.contains(from) || !elementIds.contains(to)) {
+      errors.add("Relationship " + from + " " + type + " " + to + " references unknown element");
+    }
+  }
+
+  /** Records the license references in a license expression. */
+  void license(String elementId, AnyLicenseInfo license) {
+    Matcher matcher = LICENSE_REF.matcher(license.toString());
+    while (matcher.find()) {
+      licenseRefs.putIfAbsent(matcher.group(), elementId);
+    }
+  }
+
+  /** Returns all errors, given the ids of the extracted licenses in the finished document. */
+  List<String> errors(Collection<String> extractedLicenseIds) {
+    List<String> result = new ArrayList<>(errors);
+    licenseRefs.forEach(
+        (licenseRef, elementId) -> {
+          if (!extractedLicenseIds.contains(licenseRef)) {
+            result.add(elementId + " references unknown license " + licenseRef);
+          }
+        });
+    return result;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+class ChecksumCacheTest {
+  @TempDir Path tempDir;
+
+  private static final Duration MAX_UNUSED = Duration.ofDays(30);
+  private static final ChecksumCalculator CALCULATOR =
+      ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256);
+
+  @Test
+  void storeAndLoad_roundTrip() throws IOException {
+    File jar = Files.writeString(tempDir.resolve("test.jar"), "test").toFile();
+    Path index = tempDir.resolve("cache/checksums.bin");
+
+    ChecksumCache cache = ChecksumCache.load(index);
+    FileChecksums expected = new CachingChecksumCalculator(CALCULATOR, cache).checksums(jar);
+    cache.store(index, MAX_UNUSED);
+
+    ChecksumCache reloaded = ChecksumCache.load(index);
+    Assertions.assertEquals(1, reloaded.size());
+    Assertions.assertEquals(
+        expected,
+        reloaded.get(
+            jar.toPath().toAbsolutePath(),
+            jar.length(),
+            jar.lastModified(),
+            CALCULATOR.getAlgorithms()));
+  }
+
+  @Test
+  void store_mergesConcurrentBuilds() throws IOException {
+    File first = Files.writeString(tempDir.resolve("first.jar"), "first").toFile();
+    File second = Files.writeString(tempDir.resolve("second.jar"), "second").toFile();
+    Path index = tempDir.resolve("cache/checksums.bin");
+    // both builds load the index before either stores it
+    ChecksumCache firstBuild = ChecksumCache.load(index);
+    ChecksumCache secondBuild = ChecksumCache.load(index);
+
+    new CachingChecksumCalculator(CALCULATOR, firstBuild).checksums(first);
+    new CachingChecksumCalculator(CALCULATOR, secondBuild).checksums(second);
+    firstBuild.store(index, MAX_UNUSED);
+    secondBuild.store(index, MAX_UNUSED);
+
+    Assertions.assertEquals(2, ChecksumCache.load(index).size());
+  }
+
+  @Test
+  void store_dropsEntriesUnusedForMaxUnused() throws IOException {
+    File used = Files.writeString(tempDir.resolve("used.jar"), "used").toFile();
+    File unused = Files.writeString(tempDir.resolve("unused.jar"), "unused").toFile();
+    File added = Files.writeString(tempDir.resolve("added.jar"), "added").toFile();
+    Path index = tempDir.resolve("cache/checksums.bin");
+    ChecksumCache cache = ChecksumCache.load(index);
+    CachingChecksumCalculator calculator = new CachingChecksumCalculator(CALCULATOR, cache);
+    calculator.checksums(used);
+    calculator.checksums(unused);
+    cache.store(index, MAX_UNUSED);
+
+    cache = ChecksumCache.load(index);
+    calculator = new CachingChecksumCalculator(CALCULATOR, cache);
+    calculator.checksums(used);
+    calculator.checksums(added);
+    cache.store(index, Duration.ZERO);
+
+    ChecksumCache reloaded = ChecksumCache.load(index);
+    Assertions.assertEquals(2, reloaded.size());
+    Assertions.assertNull(
+        reloaded.get(
+            unused.toPath().toAbsolutePath(),
+            unused.length(),
+            unused.lastModified(),
+            CALCULATOR.getAlgorithms()));
+  }
+
+  @Test
+  void checksums_missIsHashedByTheDelegate() throws IOException {
+    File jar = Files.writeString(tempDir.resolve("test.jar"), "test").toFile();
+    List<File> hashed = new ArrayList<>();
+    ChecksumCalculator delegate =
+        new ChecksumCalculator(CALCULATOR.getAlgorithms()) {
+          @Override
+          public FileChecksums checksums(File file) throws IOException {
+            hashed.add(file);
+            return super.checksums(file);
+          }
+        };
+    CachingChecksumCalculator calculator =
+        new CachingChecksumCalculator(delegate, new ChecksumCache());
+
+    calculator.checksums(List.of(jar, jar), 1);
+    calculator.checksums(jar);
+
+    Assertions.assertEquals(List.of(jar), hashed);
+  }
+
+  @Test
+  void checksums_hitWhenUnchanged() throws IOException {
+    File jar = Files.writeString(tempDir.resolve("test.jar"), "test").toFile();
+    CachingChecksumCalculator calculator =
+        new CachingChecksumCalculator(CALCULATOR, new ChecksumCache());
+
+    calculator.checksums(jar);
+    calculator.checksums(jar);
+
+    Assertions.assertEquals(1, calculator.getHits());
+    Assertions.assertEquals(1, calculator.getMisses());
+  }
+
+  @Test
+  void checksums_missWhenModified() throws IOException {
+    Path jar = Files.writeString(tempDir.resolve("test.jar"), "test");
+    CachingChecksumCalculator calculator =
+        new CachingChecksumCalculator(CALCULATOR, new ChecksumCache());
+
+    FileChecksums before = calculator.checksums(jar.toFile());
+    Files.writeString(jar, "changed");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(jar.toFile().lastModified() + 2000));
+    FileChecksums after = calculator.checksums(jar.toFile());
+
+    Assertions.assertEquals(0, calculator.getHits());
+    Assertions.assertNotEquals(before, after);
+  }
+
+  @Test
+  void get_missingAlgorithm() throws IOException {
+    File jar = Files.writeString(tempDir.resolve("test.jar"), "test").toFile();
+    ChecksumCache cache = new ChecksumCache();
+    new CachingChecksumCalculator(ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1), cache)
+        .checksums(jar);
+
+    Assertions.assertNull(
+        cache.get(
+            jar.toPath().toAbsolutePath(),
+            jar.length(),
+            jar.lastModified(),
+            Set.of(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256)));
+  }
+
+  @Test
+  void load_corruptIndex() throws IOException {
+    Path index = Files.write(tempDir.resolve("checksums.bin"), new byte[] {0x53, 0x50});
+
+    Assertions.assertEquals(0, ChecksumCache.load(index).size());
+  }
+}
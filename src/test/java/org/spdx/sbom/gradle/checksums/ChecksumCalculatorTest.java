@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.checksums;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+class ChecksumCalculatorTest {
+  @TempDir Path tempDir;
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void checksums_matchIndividualDigests() throws IOException {
+    // larger than the read buffer so multiple chunks are fed to each digest
+    byte[] content = new byte[ChecksumCalculator.BUFFER_SIZE * 3 + 17];
+    new Random(42).nextBytes(content);
+    File file = Files.write(tempDir.resolve("test.jar"), content).toFile();
+
+    FileChecksums checksums =
+        ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256)
+            .checksums(file);
+
+    Assertions.assertEquals(
+        Hashing.sha1().hashBytes(content).toString(), checksums.get(ChecksumAlgorithm.SHA1));
+    Assertions.assertEquals(
+        Hashing.sha256().hashBytes(content).toString(), checksums.get(ChecksumAlgorithm.SHA256));
+  }
+
+  @Test
+  void checksums_emptyFile() throws IOException {
+    File file = Files.write(tempDir.resolve("empty.jar"), new byte[0]).toFile();
+
+    FileChecksums checksums =
+        ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA256).checksums(file);
+
+    Assertions.assertEquals(
+        "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+        checksums.get(ChecksumAlgorithm.SHA256));
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> checksums.get(ChecksumAlgorithm.SHA1));
+  }
+
+  @Test
+  void checksums_parallelPreservesOrder() throws IOException {
+    ChecksumCalculator calculator = ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA256);
+    List<File> files = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      files.add(Files.writeString(tempDir.resolve("file" + i + ".jar"), "content" + i).toFile());
+    }
+    // duplicates are only hashed once
+    files.add(files.get(0));
+
+    Map<File, FileChecksums> parallel = calculator.checksums(files, 4);
+
+    Assertions.assertEquals(files.subList(0, 20), new ArrayList<>(parallel.keySet()));
+    for (File file : files) {
+      Assertions.assertEquals(calculator.checksums(file), parallel.get(file));
+    }
+  }
+
+  @Test
+  void forAlgorithms_unsupported() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.MD2));
+  }
+}
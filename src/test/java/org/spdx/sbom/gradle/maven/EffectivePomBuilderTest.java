@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class EffectivePomBuilderTest {
+  @TempDir Path tempDir;
+
+  @ParameterizedTest
+  @EnumSource(PomExtractionMode.class)
+  void effectivePoms_interpolatedParentVersion(PomExtractionMode mode) throws IOException {
+    // the prefetcher can't resolve a parent whose version needs interpolation
+    ResolvedPomFiles resolvedPomFiles = childOfInterpolatedParent();
+
+    Map<String, PomInfo> poms =
+        new EffectivePomBuilder(
+                resolvedPomFiles,
+                tempDir.resolve("stubs"),
+                true,
+                null,
+                mode,
+                1,
+                Logging.getLogger(EffectivePomBuilderTest.class))
+            .effectivePoms();
+
+    PomInfo child = poms.get("org.example:child:1");
+    Assertions.assertEquals("https://example.com/child", child.getHomepage());
+    Assertions.assertEquals(1, child.getLicenses().size());
+    Assertions.assertEquals("Apache-2.0", child.getLicenses().get(0).getName());
+  }
+
+  @ParameterizedTest
+  @EnumSource(PomExtractionMode.class)
+  void effectivePoms_missingParentFails(PomExtractionMode mode) throws IOException {
+    // what the child inherits would be missing from the sbom without anyone noticing
+    EffectivePomBuilder builder =
+        new EffectivePomBuilder(
+            childOfInterpolatedParent(),
+            tempDir.resolve("stubs"),
+            false,
+            null,
+            mode,
+            1,
+            Logging.getLogger(EffectivePomBuilderTest.class));
+
+    GradleException e = Assertions.assertThrows(GradleException.class, builder::effectivePoms);
+    Assertions.assertTrue(e.getCause().getMessage().contains("org.example:parent:${revision}"));
+  }
+
+  private ResolvedPomFiles childOfInterpolatedParent() throws IOException {
+    File pom =
+        Files.writeString(
+                tempDir.resolve("child-1.pom"),
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                    + "  <modelVersion>4.0.0</modelVersion>\n"
+                    + "  <parent>\n"
+                    + "    <groupId>org.example</groupId>\n"
+                    + "    <artifactId>parent</artifactId>\n"
+                    + "    <version>${revision}</version>\n"
+                    + "  </parent>\n"
+                    + "  <artifactId>child</artifactId>\n"
+                    + "  <version>1</version>\n"
+                    + "  <url>https://example.com/child</url>\n"
+                    + "  <licenses>\n"
+                    + "    <license>\n"
+                    + "      <name>Apache-2.0</name>\n"
+                    + "      <url>https://www.apache.org/licenses/LICENSE-2.0</url>\n"
+                    + "    </license>\n"
+                    + "  </licenses>\n"
+                    + "</project>\n")
+            .toFile();
+    return ImmutableResolvedPomFiles.builder()
+        .putComponents("org.example:child:1", "org.example:child:1")
+        .putPomFiles("org.example:child:1", pom)
+        .build();
+  }
+}
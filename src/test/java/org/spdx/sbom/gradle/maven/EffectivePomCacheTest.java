@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EffectivePomCacheTest {
+  @TempDir Path tempDir;
+
+  private static final PomInfo POM_INFO =
+      ImmutablePomInfo.builder()
+          .homepage("https://example.com")
+          .addLicenses(
+              ImmutableLicenseInfo.builder()
+                  .name("Apache-2.0")
+                  .url("https://www.apache.org/licenses/LICENSE-2.0")
+                  .build())
+          .addDevelopers(ImmutableDeveloperInfo.builder().name("Eli Graber").build())
+          .build();
+
+  private File pom(String content) throws IOException {
+    return pom("test.pom", content);
+  }
+
+  private File pom(String name, String content) throws IOException {
+    return Files.writeString(tempDir.resolve(name), content).toFile();
+  }
+
+  private static final String CHILD =
+      "<project><parent><groupId>a</groupId><artifactId>parent</artifactId>"
+          + "<version>1</version></parent></project>";
+
+  @Test
+  void putAndGet() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+    String key = cache.key(pom("<project/>"), "1.0", Map.of(), new Properties(), "model-builder");
+
+    Assertions.assertNull(cache.get(key));
+    cache.put(key, POM_INFO);
+
+    Assertions.assertEquals(POM_INFO, cache.get(key));
+    Assertions.assertEquals(1, cache.getHits());
+    Assertions.assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  void key_dependsOnPropertiesAndContent() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+    Properties java17 = new Properties();
+    java17.put("java.version", "17");
+    Properties java21 = new Properties();
+    java21.put("java.version", "21");
+
+    String key17 = cache.key(pom("<project/>"), "1.0", Map.of(), java17, "model-builder");
+    String key21 = cache.key(pom("<project/>"), "1.0", Map.of(), java21, "model-builder");
+    String otherContent =
+        cache.key(pom("<project></project>"), "1.0", Map.of(), java17, "model-builder");
+
+    Assertions.assertNotEquals(key17, key21);
+    Assertions.assertNotEquals(key17, otherContent);
+  }
+
+  @Test
+  void key_snapshotsAreNotCached() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+
+    Assertions.assertNull(
+        cache.key(pom("<project/>"), "1.0-SNAPSHOT", Map.of(), new Properties(), "model-builder"));
+    Assertions.assertNull(
+        cache.key(
+            pom(
+                "<project><parent><groupId>a</groupId><artifactId>b</artifactId>"
+                    + "<version>2.0-SNAPSHOT</version></parent></project>"),
+            "1.0",
+            Map.of(),
+            new Properties(),
+            "model-builder"));
+  }
+
+  @Test
+  void key_dependsOnParentChain() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+    File child = pom(CHILD);
+    File parent = pom("parent.pom", "<project><url>https://example.com</url></project>");
+    File otherParent = pom("other.pom", "<project><url>https://example.org</url></project>");
+
+    String key = cache.key(child, "1.0", Map.of("a:parent:1", parent), new Properties(), "s");
+    String otherKey =
+        cache.key(child, "1.0", Map.of("a:parent:1", otherParent), new Properties(), "s");
+
+    Assertions.assertNotNull(key);
+    Assertions.assertNotEquals(key, otherKey);
+    // built with a placeholder parent
+    Assertions.assertNull(cache.key(child, "1.0", Map.of(), new Properties(), "s"));
+    Assertions.assertNull(
+        cache.key(
+            pom(
+                "<project><parent><groupId>a</groupId><artifactId>parent</artifactId>"
+                    + "<version>${revision}</version></parent></project>"),
+            "1.0",
+            Map.of("a:parent:1", parent),
+            new Properties(),
+            "s"));
+  }
+
+  @Test
+  void key_snapshotsInParentChainAreNotCached() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+    File parent =
+        pom(
+            "parent.pom",
+            "<project><parent><groupId>a</groupId><artifactId>grandparent</artifactId>"
+                + "<version>3.0-SNAPSHOT</version></parent></project>");
+    File grandparent = pom("grandparent.pom", "<project/>");
+
+    Assertions.assertNull(
+        cache.key(
+            pom(CHILD),
+            "1.0",
+            Map.of("a:parent:1", parent, "a:grandparent:3.0-SNAPSHOT", grandparent),
+            new Properties(),
+            "s"));
+  }
+
+  @Test
+  void key_releasesMentioningSnapshotsAreCached() throws IOException {
+    EffectivePomCache cache = new EffectivePomCache(tempDir.resolve("cache"));
+    // only the versions of the poms in the chain matter, not a dependency, bom or comment
+    File parent =
+        pom(
+            "parent.pom",
+            "<project><!-- released from 1.1-SNAPSHOT -->"
+                + "<dependencyManagement><dependencies><dependency>"
+                + "<groupId>a</groupId><artifactId>bom</artifactId><version>2.0-SNAPSHOT</version>"
+                + "<type>pom</type><scope>import</scope>"
+                + "</dependency></dependencies></dependencyManagement></project>");
+
+    Assertions.assertNotNull(
+        cache.key(pom(CHILD), "1.0", Map.of("a:parent:1", parent), new Properties(), "s"));
+  }
+
+  @Test
+  void prune_deletesUnusedEntries() throws IOException {
+    Path directory = tempDir.resolve("cache");
+    EffectivePomCache cache = new EffectivePomCache(directory);
+    String used = cache.key(pom("<project/>"), "1.0", Map.of(), new Properties(), "s");
+    String unused = cache.key(pom("<project></project>"), "1.0", Map.of(), new Properties(), "s");
+    cache.put(used, POM_INFO);
+    cache.put(unused, POM_INFO);
+    FileTime longAgo = FileTime.from(Instant.now().minus(Duration.ofDays(60)));
+    try (Stream<Path> entries = Files.walk(directory)) {
+      for (Path entry : (Iterable<Path>) entries::iterator) {
+        if (Files.isRegularFile(entry)) {
+          Files.setLastModifiedTime(entry, longAgo);
+        }
+      }
+    }
+    // reading an entry marks it as used
+    Assertions.assertEquals(POM_INFO, cache.get(used));
+
+    Assertions.assertEquals(1, cache.prune(Duration.ofDays(30)));
+    Assertions.assertEquals(POM_INFO, cache.get(used));
+    Assertions.assertNull(cache.get(unused));
+    // pruned at most once a day
+    cache.put(unused, POM_INFO);
+    Path entry = directory.resolve(unused.substring(0, 2)).resolve(unused + ".bin");
+    Files.setLastModifiedTime(entry, longAgo);
+    Assertions.assertEquals(0, cache.prune(Duration.ofDays(30)));
+  }
+}
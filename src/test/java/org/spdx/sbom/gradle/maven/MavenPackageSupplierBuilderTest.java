@@ -153,4 +153,16 @@ public class MavenPackageSupplierBuilderTest {
     Assertions.assertEquals(
         "Organization: NOASSERTION", MavenPackageSupplierBuilder.buildPackageSupplier(pomInfo));
   }
+
+  @Test
+  void pomInfoComputesTheSupplierOnce() {
+    PomInfo pomInfo =
+        ImmutablePomInfo.builder()
+            .homepage("https://example.com")
+            .organization(pomOrganization)
+            .build();
+
+    Assertions.assertEquals("Organization: Example", pomInfo.getPackageSupplier());
+    Assertions.assertSame(pomInfo.getPackageSupplier(), pomInfo.getPackageSupplier());
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.sbom.gradle.maven.ParentPomPrefetcher.ParentCoordinates;
+
+class ParentPomPrefetcherTest {
+  @TempDir Path tempDir;
+
+  private File pom(String content) throws IOException {
+    return Files.writeString(tempDir.resolve("test.pom"), content).toFile();
+  }
+
+  @Test
+  void readParent() throws IOException {
+    ParentCoordinates parent =
+        ParentPomPrefetcher.readParent(
+            pom(
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                    + "  <modelVersion>4.0.0</modelVersion>\n"
+                    + "  <parent>\n"
+                    + "    <groupId>org.apache</groupId>\n"
+                    + "    <artifactId>apache</artifactId>\n"
+                    + "    <version>33</version>\n"
+                    + "    <relativePath/>\n"
+                    + "  </parent>\n"
+                    + "  <artifactId>child</artifactId>\n"
+                    + "  <dependencies>\n"
+                    + "    <dependency><groupId>x</groupId></dependency>\n"
+                    + "  </dependencies>\n"
+                    + "</project>\n"));
+
+    Assertions.assertNotNull(parent);
+    Assertions.assertEquals("org.apache:apache:33", parent.gav());
+  }
+
+  @Test
+  void readParent_noParent() throws IOException {
+    Assertions.assertNull(
+        ParentPomPrefetcher.readParent(
+            pom("<project><groupId>a</groupId><artifactId>b</artifactId></project>")));
+  }
+
+  @Test
+  void readParent_interpolatedVersion() throws IOException {
+    Assertions.assertNull(
+        ParentPomPrefetcher.readParent(
+            pom(
+                "<project><parent><groupId>a</groupId><artifactId>b</artifactId>"
+                    + "<version>${revision}</version></parent></project>")));
+  }
+
+  @Test
+  void readParent_malformed() throws IOException {
+    Assertions.assertNull(ParentPomPrefetcher.readParent(pom("<project><parent>")));
+  }
+}
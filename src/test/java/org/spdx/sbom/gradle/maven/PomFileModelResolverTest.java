@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.resolution.UnresolvableModelException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PomFileModelResolverTest {
+  private static final Logger LOGGER = Logging.getLogger(PomFileModelResolverTest.class);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void resolveModel_knownParent() throws Exception {
+    File pom = Files.writeString(tempDir.resolve("parent.pom"), "<project/>").toFile();
+    var resolver =
+        new PomFileModelResolver(
+            Map.of("org.example:parent:1", pom), tempDir.resolve("stubs"), false, LOGGER);
+
+    Parent parent = new Parent();
+    parent.setGroupId("org.example");
+    parent.setArtifactId("parent");
+    parent.setVersion("1");
+
+    Assertions.assertEquals(pom, ((FileModelSource) resolver.resolveModel(parent)).getFile());
+  }
+
+  @Test
+  void resolveModel_unknownParentFails() {
+    var resolver = new PomFileModelResolver(Map.of(), tempDir.resolve("stubs"), false, LOGGER);
+
+    Parent parent = new Parent();
+    parent.setGroupId("org.example");
+    parent.setArtifactId("missing");
+    parent.setVersion("${revision}");
+
+    var e =
+        Assertions.assertThrows(
+            UnresolvableModelException.class, () -> resolver.resolveModel(parent));
+    Assertions.assertTrue(e.getMessage().contains("org.example:missing:${revision}"));
+    Assertions.assertFalse(Files.exists(tempDir.resolve("stubs")));
+  }
+
+  @Test
+  void resolveModel_unknownParentIsStubbedWhenAllowed() throws Exception {
+    var resolver = new PomFileModelResolver(Map.of(), tempDir.resolve("stubs"), true, LOGGER);
+
+    Parent parent = new Parent();
+    parent.setGroupId("org.example");
+    parent.setArtifactId("missing");
+    parent.setVersion("${revision}");
+
+    File stub = ((FileModelSource) resolver.resolveModel(parent)).getFile();
+    Assertions.assertEquals("org.example_missing___revision_.pom", stub.getName());
+    Assertions.assertTrue(
+        Files.readString(stub.toPath()).contains("<version>${revision}</version>"));
+  }
+
+  @Test
+  void resolveModel_unknownBomIsStubbed() throws IOException {
+    var resolver = new PomFileModelResolver(Map.of(), tempDir.resolve("stubs"), false, LOGGER);
+
+    Dependency bom = new Dependency();
+    bom.setGroupId("org.example");
+    bom.setArtifactId("bom");
+    bom.setVersion("1");
+
+    File stub = ((FileModelSource) resolver.resolveModel(bom)).getFile();
+    Assertions.assertTrue(Files.readString(stub.toPath()).contains("<artifactId>bom</artifactId>"));
+    Assertions.assertEquals(stub, ((FileModelSource) resolver.resolveModel(bom)).getFile());
+  }
+}
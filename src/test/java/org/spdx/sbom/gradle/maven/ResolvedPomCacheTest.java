@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ResolvedPomCacheTest {
+  @Test
+  void getIfPresent_countsHitsAndMisses() {
+    ResolvedPomCache cache = new ResolvedPomCache();
+    String gav = ResolvedPomCache.key("org.apache", "apache", "33");
+
+    Assertions.assertNull(cache.getIfPresent(gav));
+    cache.put(gav, new File("apache-33.pom"));
+    Assertions.assertEquals(new File("apache-33.pom"), cache.getIfPresent(gav));
+    Assertions.assertEquals(new File("apache-33.pom"), cache.getIfPresent(gav));
+
+    Assertions.assertEquals(2, cache.getHits());
+    Assertions.assertEquals(1, cache.getMisses());
+  }
+
+  @Test
+  void put_keepsFirstPom() {
+    ResolvedPomCache cache = new ResolvedPomCache();
+    String gav = ResolvedPomCache.key("org.apache", "apache", "33");
+
+    cache.put(gav, new File("first.pom"));
+    cache.put(gav, new File("second.pom"));
+
+    Assertions.assertEquals(new File("first.pom"), cache.getIfPresent(gav));
+  }
+}
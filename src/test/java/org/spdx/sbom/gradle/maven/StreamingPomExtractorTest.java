@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingPomExtractorTest {
+  @TempDir Path tempDir;
+
+  private final Map<String, File> pomFiles = new HashMap<>();
+  private final StreamingPomExtractor extractor = new StreamingPomExtractor(pomFiles);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    pomFiles.put(
+        "org.example:parent:1",
+        pom(
+            "parent",
+            "<url>https://example.org</url>\n"
+                + "<organization>\n"
+                + "  <name>Example</name>\n"
+                + "  <url>https://example.org</url>\n"
+                + "</organization>\n"
+                + "<licenses><license>\n"
+                + "  <name>Apache-2.0</name>\n"
+                + "  <url>https://www.apache.org/licenses/LICENSE-2.0.txt</url>\n"
+                + "</license></licenses>\n"
+                + "<developers><developer><name>Parent Dev</name></developer></developers>\n"));
+  }
+
+  private File pom(String artifactId, String content) throws IOException {
+    return Files.writeString(
+            tempDir.resolve(artifactId + ".pom"),
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "<modelVersion>4.0.0</modelVersion>\n"
+                + "<artifactId>"
+                + artifactId
+                + "</artifactId>\n"
+                + content
+                + "</project>\n")
+        .toFile();
+  }
+
+  private static String parent() {
+    return "<parent>\n"
+        + "  <groupId>org.example</groupId>\n"
+        + "  <artifactId>parent</artifactId>\n"
+        + "  <version>1</version>\n"
+        + "</parent>\n";
+  }
+
+  @Test
+  void extract_inheritsFromParent() throws IOException {
+    Model model =
+        extractor.extract(
+            pom(
+                "child",
+                parent()
+                    + "<url>https://example.org/child</url>\n"
+                    + "<organization><name>Child Org</name></organization>\n"
+                    + "<developers>\n"
+                    + "  <developer>\n"
+                    + "    <name>Child Dev</name>\n"
+                    + "    <email>dev@example.org</email>\n"
+                    + "  </developer>\n"
+                    + "</developers>\n"));
+
+    Assertions.assertNotNull(model);
+    Assertions.assertEquals("https://example.org/child", model.getUrl());
+    Assertions.assertEquals("Child Org", model.getOrganization().getName());
+    Assertions.assertEquals("https://example.org", model.getOrganization().getUrl());
+    Assertions.assertEquals(1, model.getLicenses().size());
+    Assertions.assertEquals("Apache-2.0", model.getLicenses().get(0).getName());
+    Assertions.assertEquals(1, model.getDevelopers().size());
+    Assertions.assertEquals("Child Dev", model.getDevelopers().get(0).getName());
+    Assertions.assertEquals("dev@example.org", model.getDevelopers().get(0).getEmail());
+  }
+
+  @Test
+  void extract_noParent() throws IOException {
+    Model model = extractor.extract(pom("standalone", "<url>https://example.org/x</url>\n"));
+
+    Assertions.assertNotNull(model);
+    Assertions.assertEquals("https://example.org/x", model.getUrl());
+    Assertions.assertTrue(model.getLicenses().isEmpty());
+    Assertions.assertNull(model.getOrganization());
+  }
+
+  @Test
+  void extract_interpolationFallsBack() throws IOException {
+    Assertions.assertNull(
+        extractor.extract(pom("child", "<url>https://example.org/${project.artifactId}</url>\n")));
+  }
+
+  @Test
+  void extract_inheritedUrlFallsBack() throws IOException {
+    Assertions.assertNull(extractor.extract(pom("child", parent())));
+  }
+
+  @Test
+  void extract_profilesFallBack() throws IOException {
+    Assertions.assertNull(
+        extractor.extract(
+            pom("child", "<url>https://example.org/child</url>\n<profiles></profiles>\n")));
+  }
+
+  @Test
+  void extract_unresolvedParentFallsBack() throws IOException {
+    Assertions.assertNull(
+        extractor.extract(
+            pom(
+                "child",
+                "<parent>\n"
+                    + "  <groupId>org.example</groupId>\n"
+                    + "  <artifactId>missing</artifactId>\n"
+                    + "  <version>1</version>\n"
+                    + "</parent>\n"
+                    + "<url>https://example.org/child</url>\n")));
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.spdx.sbom.gradle.project;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.gradle.api.Action;
@@ -96,6 +97,56 @@ class DocumentInfoTest {
     Assertions.assertTrue(di.getUberPackageInfo().isEmpty());
   }
 
+  @Test
+  void from_reproducible() {
+    Project project = ProjectBuilder.builder().build();
+    project.getPlugins().apply("org.spdx.sbom");
+    project
+        .getExtensions()
+        .getByType(SpdxSbomExtension.class)
+        .getTargets()
+        .create(
+            "test",
+            target -> {
+              target.getReproducible().set(true);
+              target.document(d -> d.getCreated().set(Instant.ofEpochSecond(1700000000L)));
+            });
+    DocumentInfo di =
+        DocumentInfo.from(
+            project
+                .getExtensions()
+                .getByType(SpdxSbomExtension.class)
+                .getTargets()
+                .getByName("test"));
+    Assertions.assertEquals(Optional.of(Instant.ofEpochSecond(1700000000L)), di.getCreated());
+  }
+
+  @Test
+  void from_reproducibleWithoutCreated() {
+    Project project = ProjectBuilder.builder().build();
+    project.getPlugins().apply("org.spdx.sbom");
+    project
+        .getExtensions()
+        .getByType(SpdxSbomExtension.class)
+        .getTargets()
+        .create(
+            "test",
+            target -> {
+              target.getReproducible().set(true);
+              // ignore SOURCE_DATE_EPOCH from the environment running the test
+              target.document(d -> d.getCreated().unsetConvention());
+            });
+    Assertions.assertThrows(
+        GradleException.class,
+        () ->
+            DocumentInfo.from(
+                project
+                    .getExtensions()
+                    .getByType(SpdxSbomExtension.class)
+                    .getTargets()
+                    .getByName("test")));
+  }
+
   @ParameterizedTest
   @MethodSource("badUberPackageConfigs")
   void from_UberPackageNotSet(Action<? super UberPackage> configureUberPackage) {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import static org.spdx.sbom.gradle.utils.TestComponents.component;
+import static org.spdx.sbom.gradle.utils.TestComponents.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ComponentGraphTest {
+  private final ComponentIdentifier projectId = id("project");
+  private final ComponentIdentifier libId = id("lib");
+
+  @Test
+  void of_mergesConfigurations() {
+    ResolvedComponentResult shared = component("shared");
+    ResolvedComponentResult runtimeOnly = component("runtime-only");
+    // lib has an extra dependency in the runtime configuration
+    ResolvedComponentResult compileClasspath = component(projectId, component(libId, shared));
+    ResolvedComponentResult runtimeClasspath =
+        component(projectId, component(libId, shared, runtimeOnly));
+
+    ComponentGraph graph = ComponentGraph.of(List.of(compileClasspath, runtimeClasspath));
+
+    Assertions.assertEquals(Set.of(projectId), graph.getRoots());
+    Assertions.assertEquals(4, graph.size());
+    Assertions.assertEquals(
+        Set.of(libId, shared.getId(), runtimeOnly.getId()), graph.getSelectedDependencies());
+    Assertions.assertEquals(
+        List.of("project>null", "lib>project", "shared>lib", "runtime-only>lib"), walk(graph));
+  }
+
+  @Test
+  void walk_singleConfigurationMatchesWalker() {
+    ResolvedComponentResult d = component("d");
+    ResolvedComponentResult root = component("a", component("b", d), component("c", d));
+
+    List<String> walkerVisits = new ArrayList<>();
+    ComponentGraphWalker.<String, RuntimeException>walk(
+        List.of(root),
+        null,
+        (component, parent) -> {
+          walkerVisits.add(component.getId().getDisplayName() + ">" + parent);
+          return component.getId().getDisplayName();
+        });
+
+    Assertions.assertEquals(walkerVisits, walk(ComponentGraph.of(List.of(root))));
+  }
+
+  private static List<String> walk(ComponentGraph graph) {
+    List<String> visits = new ArrayList<>();
+    graph.<String, RuntimeException>walk(
+        null,
+        (component, parent) -> {
+          visits.add(component.getId().getDisplayName() + ">" + parent);
+          return component.getId().getDisplayName();
+        });
+    return visits;
+  }
+}
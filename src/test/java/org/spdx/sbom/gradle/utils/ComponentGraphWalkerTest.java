@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import static org.spdx.sbom.gradle.utils.TestComponents.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ComponentGraphWalkerTest {
+
+  @Test
+  void walk_preOrderInDeclarationOrder() {
+    // a -> (b -> d), (c -> d)
+    ResolvedComponentResult d = component("d");
+    ResolvedComponentResult a = component("a", component("b", d), component("c", d));
+
+    List<String> visits = new ArrayList<>();
+    ComponentGraphWalker.<String, RuntimeException>walk(
+        List.of(a),
+        "root",
+        (component, parent) -> {
+          String name = component.getId().getDisplayName();
+          visits.add(parent + ">" + name);
+          return name;
+        });
+
+    Assertions.assertEquals(List.of("root>a", "a>b", "b>d", "a>c"), visits);
+  }
+
+  @Test
+  void walk_sharedComponentsVisitedOnce() {
+    ResolvedComponentResult shared = component("shared");
+
+    List<String> visits = new ArrayList<>();
+    ComponentGraphWalker.<Void, RuntimeException>walk(
+        List.of(component("first", shared), component("second", shared)),
+        null,
+        (component, unused) -> {
+          visits.add(component.getId().getDisplayName());
+          return null;
+        });
+
+    Assertions.assertEquals(List.of("first", "shared", "second"), visits);
+  }
+
+  @Test
+  void walk_deepGraph() {
+    ResolvedComponentResult node = component("leaf");
+    for (int i = 0; i < 100_000; i++) {
+      node = component("node-" + i, node);
+    }
+
+    int[] visits = new int[1];
+    ComponentGraphWalker.<Void, RuntimeException>walk(
+        List.of(node),
+        null,
+        (component, unused) -> {
+          visits[0]++;
+          return null;
+        });
+
+    Assertions.assertEquals(100_001, visits[0]);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LicenseExpressionCacheTest {
+  private final SpdxKnownLicenses knownLicenses =
+      new SpdxKnownLicenses(
+          Map.of(
+              "apache.org/licenses/license-2.0", "Apache-2.0",
+              "opensource.org/licenses/apache-2.0", "Apache-2.0",
+              "opensource.org/licenses/mit", "MIT"));
+
+  @Test
+  void knownLicenses() {
+    LicenseExpressionCache cache = new LicenseExpressionCache();
+    Assertions.assertEquals(
+        Optional.of("Apache-2.0 AND MIT"),
+        cache.expression(
+            List.of("apache.org/licenses/license-2.0", "opensource.org/licenses/mit"),
+            knownLicenses));
+  }
+
+  @Test
+  void sameLicenseIsOnlyAddedOnce() {
+    LicenseExpressionCache cache = new LicenseExpressionCache();
+    Assertions.assertEquals(
+        Optional.of("Apache-2.0"),
+        cache.expression(
+            List.of("apache.org/licenses/license-2.0", "opensource.org/licenses/apache-2.0"),
+            knownLicenses));
+  }
+
+  @Test
+  void unknownLicense() {
+    LicenseExpressionCache cache = new LicenseExpressionCache();
+    Assertions.assertEquals(
+        Optional.empty(),
+        cache.expression(
+            List.of("opensource.org/licenses/mit", "example.com/proprietary"), knownLicenses));
+  }
+
+  @Test
+  void countsHitsAndMisses() {
+    LicenseExpressionCache cache = new LicenseExpressionCache();
+    cache.expression(List.of("opensource.org/licenses/mit"), knownLicenses);
+    cache.expression(List.of("opensource.org/licenses/mit"), knownLicenses);
+    cache.expression(List.of("example.com/proprietary"), knownLicenses);
+    cache.expression(List.of("example.com/proprietary"), knownLicenses);
+    Assertions.assertEquals(2, cache.getHits());
+    Assertions.assertEquals(2, cache.getMisses());
+  }
+}
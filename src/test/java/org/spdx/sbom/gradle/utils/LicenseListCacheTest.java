@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LicenseListCacheTest {
+  private static final String LICENSES = "{\"licenses\": []}";
+  private static final String ETAG = "\"v1\"";
+
+  @TempDir Path tempDir;
+
+  private HttpServer server;
+  private URI remote;
+  // the If-None-Match header of each request, "" when absent
+  private final List<String> requests = new ArrayList<>();
+  private volatile long responseDelayMillis;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(
+        "/licenses.json",
+        exchange -> {
+          String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+          requests.add(ifNoneMatch == null ? "" : ifNoneMatch);
+          try {
+            Thread.sleep(responseDelayMillis);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+          } else {
+            byte[] body = LICENSES.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+              out.write(body);
+            }
+          }
+          exchange.close();
+        });
+    server.start();
+    remote = URI.create("http://localhost:" + server.getAddress().getPort() + "/licenses.json");
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  void load_usesFreshCopyWithoutRequest() {
+    LicenseListCache cache = new LicenseListCache(remote, tempDir, Duration.ofHours(1));
+
+    Assertions.assertEquals(LICENSES, load(cache));
+    Assertions.assertEquals(LICENSES, load(cache));
+    Assertions.assertEquals(List.of(""), requests);
+  }
+
+  @Test
+  void load_revalidatesExpiredCopy() {
+    LicenseListCache cache = new LicenseListCache(remote, tempDir, Duration.ZERO);
+
+    Assertions.assertEquals(LICENSES, load(cache));
+    Assertions.assertEquals(LICENSES, load(cache));
+    Assertions.assertEquals(List.of("", ETAG), requests);
+  }
+
+  @Test
+  void load_usesStaleCopyWhenRemoteIsUnreachable() {
+    Assertions.assertEquals(LICENSES, load(new LicenseListCache(remote, tempDir, Duration.ZERO)));
+    server.stop(0);
+
+    Assertions.assertEquals(
+        LICENSES, load(new LicenseListCache(remote, tempDir, Duration.ZERO, 200, 200)));
+  }
+
+  @Test
+  void load_slowRemoteWithoutCopy() {
+    responseDelayMillis = 2_000;
+    LicenseListCache cache = new LicenseListCache(remote, tempDir, Duration.ZERO, 200, 200);
+
+    Assertions.assertNull(cache.load());
+  }
+
+  @Test
+  void getCacheFile_holdsTheDownloadedList() throws IOException {
+    LicenseListCache cache = new LicenseListCache(remote, tempDir, Duration.ofHours(1));
+    Assertions.assertFalse(Files.exists(cache.getCacheFile()));
+
+    load(cache);
+
+    Assertions.assertEquals(LICENSES, Files.readString(cache.getCacheFile()));
+  }
+
+  @Test
+  void invalidate() {
+    LicenseListCache cache = new LicenseListCache(remote, tempDir, Duration.ofHours(1));
+    load(cache);
+
+    cache.invalidate();
+
+    Assertions.assertEquals(LICENSES, load(cache));
+    Assertions.assertEquals(List.of("", ""), requests);
+  }
+
+  private static String load(LicenseListCache cache) {
+    return new String(cache.load(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import static org.spdx.sbom.gradle.utils.TestComponents.artifact;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+
+class PackageIndexTest {
+  @TempDir Path tempDir;
+
+  private File fooJar;
+  private File barJar;
+  private File barSources;
+
+  @BeforeEach
+  void createArtifacts() throws IOException {
+    fooJar = Files.writeString(tempDir.resolve("foo-1.0.jar"), "foo").toFile();
+    barJar = Files.writeString(tempDir.resolve("bar-1.0.jar"), "bar").toFile();
+    barSources = Files.writeString(tempDir.resolve("bar-1.0-sources.jar"), "bar sources").toFile();
+  }
+
+  private static IndexedPackage filePackage(String name, File file) {
+    return ImmutableIndexedPackage.builder()
+        .name(name)
+        .downloadLocation("https://repo/" + file.getName())
+        .versionInfo("1.0")
+        .supplier("Organization: example")
+        .putChecksums(ChecksumAlgorithm.SHA1, "aa")
+        .putChecksums(ChecksumAlgorithm.SHA256, "bb")
+        .purl("pkg:maven/g/" + name + "@1.0")
+        .build();
+  }
+
+  private PackageIndex index() throws IOException {
+    PackageIndex index = PackageIndex.empty();
+    index.put(
+        "g:foo:1.0",
+        ImmutableIndexedComponent.builder()
+            .artifacts(PackageIndex.artifacts(Set.of(fooJar)))
+            .repository("https://repo")
+            .addPackages(filePackage("g:foo", fooJar))
+            .build());
+    index.put(
+        "g:bar:1.0",
+        ImmutableIndexedComponent.builder()
+            .artifacts(PackageIndex.artifacts(Set.of(barJar, barSources)))
+            .repository("https://repo")
+            .addPackages(
+                ImmutableIndexedPackage.builder()
+                    .name("g:bar")
+                    .downloadLocation("NOASSERTION")
+                    .versionInfo("1.0")
+                    .supplier("Organization: example")
+                    .build())
+            .addPackages(filePackage("g:bar", barJar), filePackage("g:bar:sources", barSources))
+            .build());
+    return index;
+  }
+
+  @Test
+  void write_readsBackThePackages() throws IOException {
+    File file = tempDir.resolve("intermediates/packages.bin").toFile();
+    index().write(file);
+
+    PackageIndex read = PackageIndex.read(file);
+    Assertions.assertEquals(2, read.size());
+    Assertions.assertEquals(index().get("g:foo:1.0"), read.get("g:foo:1.0"));
+    Assertions.assertEquals(index().get("g:bar:1.0"), read.get("g:bar:1.0"));
+  }
+
+  @Test
+  void read_missingOrUnreadableIndexIsEmpty() throws IOException {
+    Path file = tempDir.resolve("packages.bin");
+    Assertions.assertEquals(0, PackageIndex.read(file.toFile()).size());
+
+    Files.writeString(file, "not an index");
+    Assertions.assertEquals(0, PackageIndex.read(file.toFile()).size());
+  }
+
+  @Test
+  void unchanged_keepsComponentsWithUnchangedArtifacts() throws IOException {
+    PackageIndex unchanged =
+        index()
+            .unchanged(
+                Map.of(
+                    artifact("g:foo:1.0"), fooJar,
+                    artifact("g:bar:1.0"), barJar,
+                    artifact("g:bar:1.0"), barSources));
+
+    Assertions.assertTrue(unchanged.contains("g:foo:1.0"));
+    Assertions.assertTrue(unchanged.contains("g:bar:1.0"));
+  }
+
+  @Test
+  void unchanged_dropsComponentsWithModifiedArtifacts() throws IOException {
+    PackageIndex index = index();
+    Files.writeString(barSources.toPath(), "other bar sources");
+
+    PackageIndex unchanged =
+        index.unchanged(
+            Map.of(
+                artifact("g:foo:1.0"), fooJar,
+                artifact("g:bar:1.0"), barJar,
+                artifact("g:bar:1.0"), barSources));
+
+    Assertions.assertTrue(unchanged.contains("g:foo:1.0"));
+    Assertions.assertFalse(unchanged.contains("g:bar:1.0"));
+  }
+
+  @Test
+  void unchanged_dropsComponentsThatResolveToOtherArtifacts() throws IOException {
+    PackageIndex unchanged = index().unchanged(Map.of(artifact("g:bar:1.0"), barJar));
+
+    // g:foo:1.0 is no longer resolved, and g:bar:1.0 lost its sources jar
+    Assertions.assertEquals(0, unchanged.size());
+  }
+}
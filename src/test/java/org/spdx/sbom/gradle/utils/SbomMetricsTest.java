@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SbomMetricsTest {
+  @TempDir Path dir;
+
+  @Test
+  void repeatedPhasesAndCountersAddUp() {
+    SbomMetrics metrics = new SbomMetrics(":spdxSbomForRelease");
+    metrics.phaseMillis("verify", 5);
+    metrics.phaseMillis("verify", 7);
+    metrics.count("packages", 3);
+    metrics.count("packages", 4);
+
+    Assertions.assertEquals(Map.of("verify", 12L), metrics.getPhases());
+    Assertions.assertEquals(Map.of("packages", 7L), metrics.getCounters());
+  }
+
+  @Test
+  void writeAndRead() throws IOException {
+    SbomMetrics pomIndex = new SbomMetrics(":spdxPomIndexForRelease");
+    pomIndex.phaseMillis("effectivePoms", 40);
+    SbomMetrics metrics = new SbomMetrics(":spdxSbomForRelease");
+    metrics.phaseMillis("serialize", 10);
+    metrics.count("bytesHashed", 5_000_000_000L);
+    metrics.input("pomIndex", pomIndex);
+    File report = dir.resolve("release.spdx.json.metrics.json").toFile();
+
+    metrics.write(report);
+    SbomMetrics read = SbomMetrics.read(report);
+
+    Assertions.assertEquals(Map.of("serialize", 10L), read.getPhases());
+    Assertions.assertEquals(Map.of("bytesHashed", 5_000_000_000L), read.getCounters());
+    String json = Files.readString(report.toPath());
+    Assertions.assertTrue(json.contains("\"effectivePoms\" : 40"), json);
+  }
+
+  @Test
+  void missingOrUnreadableReport() throws IOException {
+    Assertions.assertNull(SbomMetrics.read(dir.resolve("missing.json").toFile()));
+    File corrupt = Files.writeString(dir.resolve("corrupt.json"), "{\"phases\": [").toFile();
+    Assertions.assertNull(SbomMetrics.read(corrupt));
+  }
+}
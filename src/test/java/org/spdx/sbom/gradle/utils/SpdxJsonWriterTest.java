@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.gradle.api.artifacts.ModuleVersionIdentifier;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.internal.artifacts.DefaultModuleVersionIdentifier;
+import org.gradle.api.internal.artifacts.ivyservice.resolveengine.result.ComponentSelectionReasons;
+import org.gradle.api.internal.artifacts.result.DefaultResolvedComponentResult;
+import org.gradle.api.internal.artifacts.result.DefaultResolvedDependencyResult;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.component.external.model.DefaultModuleComponentIdentifier;
+import org.gradle.internal.component.external.model.DefaultModuleComponentSelector;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spdx.jacksonstore.MultiFormatStore;
+import org.spdx.jacksonstore.MultiFormatStore.Format;
+import org.spdx.library.SpdxModelFactory;
+import org.spdx.library.model.v2.enumerations.ChecksumAlgorithm;
+import org.spdx.sbom.gradle.checksums.ChecksumCalculator;
+import org.spdx.sbom.gradle.checksums.FileChecksums;
+import org.spdx.sbom.gradle.checksums.ImmutableFileChecksums;
+import org.spdx.sbom.gradle.maven.ImmutableLicenseInfo;
+import org.spdx.sbom.gradle.maven.ImmutablePomInfo;
+import org.spdx.sbom.gradle.maven.PomInfo;
+import org.spdx.sbom.gradle.project.ImmutableDocumentInfo;
+import org.spdx.sbom.gradle.project.ImmutableProjectInfo;
+import org.spdx.sbom.gradle.project.ImmutableScmInfo;
+import org.spdx.sbom.gradle.project.ImmutableUberPackageInfo;
+import org.spdx.sbom.gradle.project.ProjectInfo;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+class SpdxJsonWriterTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String REPOSITORY = "test";
+
+  private final ProjectInfo project =
+      ImmutableProjectInfo.builder()
+          .name("test")
+          .version("1.0")
+          .projectDirectory(new File("test"))
+          .path(":test")
+          .build();
+  private final Map<ComponentArtifactIdentifier, File> artifacts = new HashMap<>();
+  private final Map<File, FileChecksums> checksums = new HashMap<>();
+  private final Map<String, PomInfo> poms = new HashMap<>();
+
+  @Test
+  void streamTo_matchesMultiFormatStore() throws Exception {
+    SpdxModelFactory.init();
+    DefaultResolvedComponentResult dependency =
+        component(
+            "dependency",
+            ImmutableLicenseInfo.builder()
+                .name("Some License")
+                .url("https://example.com/license")
+                .build());
+    // a jar and a sources jar, the component becomes a package containing a package per file
+    addArtifact(dependency.getId(), "dependency-1.0-sources.jar", 2);
+    DefaultResolvedComponentResult library =
+        component(
+            "library",
+            ImmutableLicenseInfo.builder()
+                .name("Apache-2.0")
+                .url("https://www.apache.org/licenses/LICENSE-2.0.txt")
+                .build());
+    library.addDependencies(
+        ImmutableSet.of(
+            new DefaultResolvedDependencyResult(
+                DefaultModuleComponentSelector.newSelector(
+                    dependency.getModuleVersion().getModule(),
+                    dependency.getModuleVersion().getVersion()),
+                false,
+                dependency,
+                null,
+                library)));
+    ComponentGraph graph = ComponentGraph.of(List.of(library));
+
+    MultiFormatStore store = new MultiFormatStore(new InMemSpdxStore(), Format.JSON_PRETTY);
+    SpdxDocumentBuilder builder = newBuilder(store);
+    builder.add(graph);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    store.serialize(expected, builder.getSpdxDocument());
+
+    SpdxDocumentBuilder streamingBuilder = newBuilder(new InMemSpdxStore());
+    ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    streamingBuilder.streamTo(actual, true);
+    streamingBuilder.add(graph);
+
+    Assertions.assertEquals(
+        normalize(MAPPER.readTree(expected.toByteArray())),
+        normalize(MAPPER.readTree(actual.toByteArray())));
+    Assertions.assertEquals(List.of(), streamingBuilder.getStructuralErrors());
+    Assertions.assertEquals(3, streamingBuilder.getPackageCount());
+  }
+
+  private SpdxDocumentBuilder newBuilder(IModelStore store) throws Exception {
+    SpdxKnownLicenses knownLicenses = SpdxKnownLicenses.knownLicenses(null);
+    SpdxDocumentBuilder builder =
+        new SpdxDocumentBuilder(
+            project,
+            Map.of(project.getPath(), project),
+            Logging.getLogger(SpdxJsonWriterTest.class),
+            store,
+            artifacts,
+            Map.of(REPOSITORY, URI.create("https://repo.example.com/maven2")),
+            poms,
+            null,
+            ImmutableDocumentInfo.builder()
+                .namespace("https://example.com/UUID")
+                .name("test-document")
+                .created(Instant.parse("2024-01-01T00:00:00Z"))
+                .uberPackageInfo(
+                    ImmutableUberPackageInfo.builder()
+                        .name("test")
+                        .version("1.0")
+                        .supplier("Organization: Test")
+                        .build())
+                .build(),
+            ImmutableScmInfo.builder()
+                .tool("git")
+                .uri("https://example.com/test.git")
+                .revision("0000000")
+                .build(),
+            () -> knownLicenses,
+            new LicenseExpressionCache(),
+            ChecksumCalculator.forAlgorithms(ChecksumAlgorithm.SHA1, ChecksumAlgorithm.SHA256),
+            1,
+            false);
+    builder.useChecksums(checksums);
+    return builder;
+  }
+
+  private DefaultResolvedComponentResult component(String name, PomInfo.LicenseInfo license) {
+    ModuleVersionIdentifier moduleId =
+        DefaultModuleVersionIdentifier.newId("org.example", name, "1.0");
+    ComponentIdentifier id = DefaultModuleComponentIdentifier.newId(moduleId);
+    poms.put(
+        id.getDisplayName(),
+        ImmutablePomInfo.builder()
+            .homepage("https://example.com/" + name)
+            .addLicenses(license)
+            .build());
+    addArtifact(id, name + "-1.0.jar", poms.size());
+    return new DefaultResolvedComponentResult(
+        moduleId,
+        ComponentSelectionReasons.requested(),
+        id,
+        ImmutableMap.of(),
+        ImmutableList.of(),
+        REPOSITORY);
+  }
+
+  private void addArtifact(ComponentIdentifier component, String fileName, int i) {
+    File file = new File("test-repository", fileName);
+    ComponentArtifactIdentifier artifactId =
+        (ComponentArtifactIdentifier)
+            Proxy.newProxyInstance(
+                SpdxJsonWriterTest.class.getClassLoader(),
+                new Class<?>[] {ComponentArtifactIdentifier.class},
+                (proxy, method, args) -> {
+                  switch (method.getName()) {
+                    case "getComponentIdentifier":
+                      return component;
+                    case "getDisplayName":
+                    case "toString":
+                      return fileName;
+                    case "hashCode":
+                      return System.identityHashCode(proxy);
+                    case "equals":
+                      return proxy == args[0];
+                    default:
+                      throw new UnsupportedOperationException(method.getName());
+                  }
+                });
+    artifacts.put(artifactId, file);
+    String sha = String.format("%040x", i);
+    checksums.put(
+        file,
+        ImmutableFileChecksums.builder()
+            .putDigests(ChecksumAlgorithm.SHA1, sha)
+            .putDigests(ChecksumAlgorithm.SHA256, sha + sha.substring(0, 24))
+            .build());
+  }
+
+  /** Sorts arrays so that element order doesn't matter. */
+  private static JsonNode normalize(JsonNode node) {
+    if (node.isObject()) {
+      ObjectNode normalized = MAPPER.createObjectNode();
+      node.fieldNames().forEachRemaining(name -> normalized.set(name, normalize(node.get(name))));
+      return normalized;
+    }
+    if (node.isArray()) {
+      List<JsonNode> elements = new ArrayList<>();
+      node.forEach(element -> elements.add(normalize(element)));
+      elements.sort(Comparator.comparing(JsonNode::toString));
+      ArrayNode normalized = MAPPER.createArrayNode();
+      elements.forEach(normalized::add);
+      return normalized;
+    }
+    return node;
+  }
+}
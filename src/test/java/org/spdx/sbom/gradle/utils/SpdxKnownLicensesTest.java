@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SpdxKnownLicensesTest {
+
+  @Test
+  void normalize_variants() {
+    for (String url :
+        List.of(
+            "https://www.apache.org/licenses/LICENSE-2.0",
+            "http://www.apache.org/licenses/LICENSE-2.0.txt",
+            "https://apache.org/licenses/LICENSE-2.0.html",
+            "HTTP://WWW.Apache.org/licenses/LICENSE-2.0/",
+            " https://www.apache.org/licenses/LICENSE-2.0.htm ")) {
+      Assertions.assertEquals(
+          "apache.org/licenses/LICENSE-2.0", SpdxKnownLicenses.normalize(url), url);
+    }
+  }
+
+  @Test
+  void normalize_pathsAreCaseSensitive() {
+    Assertions.assertEquals(
+        "example.com/licenses/MyLicense",
+        SpdxKnownLicenses.normalize("https://EXAMPLE.com/licenses/MyLicense"));
+    Assertions.assertNotEquals(
+        SpdxKnownLicenses.normalize("https://example.com/licenses/mylicense"),
+        SpdxKnownLicenses.normalize("https://example.com/licenses/MyLicense"));
+  }
+
+  @Test
+  void normalize_onlyTheSchemeIsDropped() {
+    // replacing every "https" used to turn this into http-license
+    Assertions.assertEquals(
+        "example.com/licenses/https-license",
+        SpdxKnownLicenses.normalize("https://example.com/licenses/https-license"));
+  }
+
+  @Test
+  void normalize_normalizedUrlIsReused() {
+    String url = "opensource.org/licenses/mit";
+    Assertions.assertSame(url, SpdxKnownLicenses.normalize(url));
+  }
+
+  @Test
+  void writeIndex() throws IOException {
+    String toc =
+        "{\"licenses\": ["
+            + "{\"licenseId\": \"MIT\", \"seeAlso\": [\"https://opensource.org/licenses/MIT\","
+            + " \"http://opensource.org/licenses/MIT/\"]},"
+            + "{\"licenseId\": \"A\", \"seeAlso\": [\"https://example.com/shared\"]},"
+            + "{\"licenseId\": \"B\", \"seeAlso\": [\"http://example.com/shared.txt\"]}"
+            + "]}";
+    StringWriter index = new StringWriter();
+
+    SpdxKnownLicenses.writeIndex(
+        new ByteArrayInputStream(toc.getBytes(StandardCharsets.UTF_8)), index);
+
+    List<String> lines = List.of(index.toString().split("\n"));
+    // variants of one url for the same license are kept, a url shared by two licenses is dropped
+    Assertions.assertTrue(lines.contains("opensource.org/licenses/MIT\tMIT"), lines.toString());
+    Assertions.assertTrue(lines.contains("spdx.org/licenses/MIT\tMIT"), lines.toString());
+    Assertions.assertTrue(lines.contains("spdx.org/licenses/A\tA"), lines.toString());
+    Assertions.assertFalse(lines.stream().anyMatch(line -> line.startsWith("example.com/shared")));
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.v2.license.ExtractedLicenseInfo;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+class StructuralVerifierTest {
+  private final StructuralVerifier verifier = new StructuralVerifier();
+
+  @Test
+  void errors_validDocument() {
+    verifier.element("SPDXRef-DOCUMENT");
+    verifier.element("SPDXRef-gnrtd0");
+    verifier.element("SPDXRef-gnrtd1");
+    verifier.relationship("SPDXRef-gnrtd0", "DEPENDS_ON", "SPDXRef-gnrtd1");
+
+    Assertions.assertEquals(List.of(), verifier.errors(Set.of()));
+  }
+
+  @Test
+  void errors_badIds() {
+    verifier.element("SPDXRef-gnrtd0");
+    verifier.element("SPDXRef-gnrtd0");
+    verifier.element("gnrtd1");
+
+    Assertions.assertEquals(
+        List.of("Duplicate SPDX identifier: SPDXRef-gnrtd0", "Invalid SPDX identifier: gnrtd1"),
+        verifier.errors(Set.of()));
+  }
+
+  @Test
+  void errors_unknownRelationshipElement() {
+    verifier.element("SPDXRef-gnrtd0");
+    verifier.relationship("SPDXRef-gnrtd0", "DEPENDS_ON", "SPDXRef-gnrtd1");
+
+    Assertions.assertEquals(1, verifier.errors(Set.of()).size());
+  }
+
+  @Test
+  void errors_unknownLicenseRef() throws Exception {
+    verifier.element("SPDXRef-gnrtd0");
+    verifier.license(
+        "SPDXRef-gnrtd0",
+        new ExtractedLicenseInfo(
+            new InMemSpdxStore(),
+            "https://example.com/UUID",
+            "LicenseRef-gnrtd0",
+            new ModelCopyManager(),
+            true));
+
+    Assertions.assertEquals(List.of(), verifier.errors(Set.of("LicenseRef-gnrtd0")));
+    Assertions.assertEquals(
+        List.of("SPDXRef-gnrtd0 references unknown license LicenseRef-gnrtd0"),
+        verifier.errors(Set.of()));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Project Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spdx.sbom.gradle.utils;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.gradle.api.artifacts.component.ComponentArtifactIdentifier;
+import org.gradle.api.artifacts.component.ComponentIdentifier;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+
+/** Minimal resolved components for tests, only ids and dependencies are implemented. */
+final class TestComponents {
+  private TestComponents() {}
+
+  static ComponentIdentifier id(String name) {
+    return proxy(ComponentIdentifier.class, "getDisplayName", name);
+  }
+
+  /** An artifact of the component {@code component}. */
+  static ComponentArtifactIdentifier artifact(String component) {
+    return proxy(ComponentArtifactIdentifier.class, "getComponentIdentifier", id(component));
+  }
+
+  static ResolvedComponentResult component(String name, ResolvedComponentResult... dependencies) {
+    return component(id(name), dependencies);
+  }
+
+  /** A component with an existing id, like the same module resolved in another configuration. */
+  static ResolvedComponentResult component(
+      ComponentIdentifier id, ResolvedComponentResult... dependencies) {
+    Set<DependencyResult> dependencyResults = new LinkedHashSet<>();
+    for (ResolvedComponentResult dependency : dependencies) {
+      dependencyResults.add(proxy(ResolvedDependencyResult.class, "getSelected", dependency));
+    }
+    return (ResolvedComponentResult)
+        Proxy.newProxyInstance(
+            TestComponents.class.getClassLoader(),
+            new Class<?>[] {ResolvedComponentResult.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "getId":
+                  return id;
+                case "getDependencies":
+                  return dependencyResults;
+                case "toString":
+                  return id.getDisplayName();
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            });
+  }
+
+  private static <T> T proxy(Class<T> type, String methodName, Object value) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            TestComponents.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              if (method.getName().equals(methodName)) {
+                return value;
+              }
+              switch (method.getName()) {
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "equals":
+                  return proxy == args[0];
+                case "toString":
+                  return String.valueOf(value);
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            }));
+  }
+}